@@ -0,0 +1,93 @@
+package com.github.eugeneheen.berry.kit.benchmark;
+
+import com.github.eugeneheen.berry.kit.core.JsonKit;
+import com.github.eugeneheen.berry.kit.test.core.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>JsonKit读写基准测试，覆盖read、write、readAsMap、readAsCollection，报文规模见{@link JsonPayloadCorpus}。</p>
+ * <p>通过{@code gradle jmh}运行，默认开启GC分析器，结果中的gc.alloc.rate.norm即每次操作的内存分配字节数，
+ * 结果同时输出至build/reports/jmh/results.json，可与上一版本的结果对比发现性能回退。</p>
+ *
+ * @author Eugene
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonKitBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private JsonPayloadCorpus payload;
+
+    private JsonKit jsonKit;
+
+    private User user;
+
+    private String userJson;
+
+    private List<User> users;
+
+    private String usersJson;
+
+    private Map<String, Object> document;
+
+    private String documentJson;
+
+    @Setup
+    public void setup() {
+        this.jsonKit = new JsonKit();
+        this.user = this.payload.user();
+        this.userJson = this.jsonKit.write(this.user);
+        this.users = this.payload.users();
+        this.usersJson = this.jsonKit.write(this.users);
+        this.document = this.payload.document();
+        this.documentJson = this.jsonKit.write(this.document);
+    }
+
+    @Benchmark
+    public User read() {
+        return this.jsonKit.read(this.userJson, User.class);
+    }
+
+    @Benchmark
+    public String write() {
+        return this.jsonKit.write(this.user);
+    }
+
+    @Benchmark
+    public Map<String, Object> readAsMap() {
+        return this.jsonKit.readAsMap(this.documentJson);
+    }
+
+    @Benchmark
+    public String writeMap() {
+        return this.jsonKit.write(this.document);
+    }
+
+    @Benchmark
+    public List<User> readAsCollection() {
+        return this.jsonKit.readAsCollection(this.usersJson, List.class, User.class);
+    }
+
+    @Benchmark
+    public String writeCollection() {
+        return this.jsonKit.write(this.users);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.eugeneheen.berry.kit.benchmark;
+
+import com.github.eugeneheen.berry.kit.core.JsonKit;
+import com.github.eugeneheen.berry.kit.core.JsonKitBuilder;
+import com.github.eugeneheen.berry.kit.enumeration.JsonBufferPoolEnum;
+import com.github.eugeneheen.berry.kit.test.core.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>对比各序列化输出缓冲复用策略下write(Object)的内存分配量与耗时，records为200、2000时JSON报文分别约10KB、100KB。
+ * writeAsBytes(Object)不经过缓冲池，不在对比范围内。</p>
+ * <p>通过{@code gradle jmh -PjmhArgs="JsonKitBufferPoolBenchmark"}运行，gc.alloc.rate.norm即每次操作的内存分配字节数。</p>
+ *
+ * @author Eugene
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonKitBufferPoolBenchmark {
+
+    @Param({"NONE", "THREAD_LOCAL", "SHARED"})
+    private JsonBufferPoolEnum strategy;
+
+    @Param({"200", "2000"})
+    private int records;
+
+    private JsonKit jsonKit;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        this.jsonKit = JsonKitBuilder.newJsonKitBuilder().bufferPool(this.strategy).build();
+        this.users = new ArrayList<>(this.records);
+        for (int i = 0; i < this.records; i++) {
+            User user = new User();
+            user.setName("Eugene" + i);
+            user.setAge(i % 100);
+            user.setDesc("浆果工具箱用户" + i);
+            this.users.add(user);
+        }
+    }
+
+    @Benchmark
+    public String write() {
+        return this.jsonKit.write(this.users);
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.eugeneheen.berry.kit.benchmark;
+
+import com.github.eugeneheen.berry.kit.core.JsonKit;
+import com.github.eugeneheen.berry.kit.test.core.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>对比readAsCollection(Collection, ...)两种转换路径：经由JSON字符串往返的原实现，与基于TokenBuffer的内存转换实现。</p>
+ * <p>通过{@code gradle jmh -PjmhArgs="JsonKitConvertBenchmark"}运行，报文规模见{@link JsonPayloadCorpus}。</p>
+ *
+ * @author Eugene
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonKitConvertBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private JsonPayloadCorpus payload;
+
+    private JsonKit jsonKit;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        this.jsonKit = new JsonKit();
+        this.users = this.payload.users();
+    }
+
+    @Benchmark
+    public List<User> viaString() {
+        return this.jsonKit.readAsCollection(this.jsonKit.write(this.users), List.class, User.class);
+    }
+
+    @Benchmark
+    public List<User> viaTokenBuffer() {
+        return this.jsonKit.readAsCollection(this.users, List.class, User.class);
+    }
+}
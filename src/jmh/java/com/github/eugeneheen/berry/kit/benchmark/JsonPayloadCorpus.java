@@ -0,0 +1,119 @@
+package com.github.eugeneheen.berry.kit.benchmark;
+
+import com.github.eugeneheen.berry.kit.test.core.User;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * <p>基准测试报文语料，按固定随机种子生成，保证每次运行的报文内容一致。</p>
+ * <ul>
+ *     <li>SMALL：10条记录，报文约0.3KB至2.5KB，对应单个接口调用的小报文；</li>
+ *     <li>MEDIUM：1000条记录，报文约25KB至260KB，对应分页列表报文；</li>
+ *     <li>LARGE：50000条记录，报文约1MB至13MB，对应批量同步或参考数据文件。</li>
+ * </ul>
+ *
+ * @author Eugene
+ */
+public enum JsonPayloadCorpus {
+
+    SMALL(10),
+
+    MEDIUM(1000),
+
+    LARGE(50000);
+
+    private static final String[] STATUSES = {"CREATED", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    private static final String[] CITIES = {"北京", "上海", "广州", "深圳", "杭州", "成都"};
+
+    /**
+     * 记录数量
+     */
+    private final int records;
+
+    JsonPayloadCorpus(int records) {
+        this.records = records;
+    }
+
+    /**
+     * 生成单个用户，desc长度随报文规模增长
+     *
+     * @return 用户
+     */
+    public User user() {
+        return this.user(new Random(this.records), 0, this.records);
+    }
+
+    /**
+     * 生成用户列表
+     *
+     * @return 用户列表
+     */
+    public List<User> users() {
+        Random random = new Random(this.records);
+        List<User> users = new ArrayList<>(this.records);
+        for (int i = 0; i < this.records; i++) {
+            users.add(this.user(random, i, 1));
+        }
+        return users;
+    }
+
+    /**
+     * 生成订单查询接口响应形式的文档，包含嵌套对象、数组、字符串、整数、浮点数与布尔值
+     *
+     * @return 文档
+     */
+    public Map<String, Object> document() {
+        Random random = new Random(this.records);
+        List<Map<String, Object>> items = new ArrayList<>(this.records);
+        for (int i = 0; i < this.records; i++) {
+            Map<String, Object> address = new LinkedHashMap<>();
+            address.put("city", CITIES[random.nextInt(CITIES.length)]);
+            address.put("street", "人民路" + random.nextInt(1000) + "号");
+            address.put("zip", String.valueOf(100000 + random.nextInt(900000)));
+
+            List<Map<String, Object>> lines = new ArrayList<>();
+            for (int j = 0, count = 1 + random.nextInt(3); j < count; j++) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("sku", "SKU-" + random.nextInt(100000));
+                line.put("quantity", 1 + random.nextInt(5));
+                line.put("price", random.nextInt(100000) / 100.0);
+                lines.add(line);
+            }
+
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", 10000000000L + i);
+            item.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            item.put("paid", random.nextBoolean());
+            item.put("createdAt", "2024-01-" + String.format("%02d", 1 + random.nextInt(28)) + "T08:00:00Z");
+            item.put("address", address);
+            item.put("lines", lines);
+            items.add(item);
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("total", this.records);
+        data.put("items", items);
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("code", 0);
+        document.put("message", "success");
+        document.put("data", data);
+        return document;
+    }
+
+    private User user(Random random, int index, int descRepeat) {
+        StringBuilder desc = new StringBuilder();
+        for (int i = 0; i < descRepeat; i++) {
+            desc.append("浆果工具箱用户").append(random.nextInt(10000));
+        }
+        User user = new User();
+        user.setName("Eugene" + index);
+        user.setAge(random.nextInt(100));
+        user.setDesc(desc.toString());
+        return user;
+    }
+}
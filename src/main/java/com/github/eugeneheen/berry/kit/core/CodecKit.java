@@ -12,13 +12,20 @@ import org.apache.commons.codec.net.URLCodec;
 import javax.crypto.*;
 import javax.crypto.spec.DESKeySpec;
 import javax.crypto.spec.DESedeKeySpec;
+import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.*;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
@@ -29,9 +36,15 @@ import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * <p>
@@ -52,6 +65,16 @@ public class CodecKit {
      */
     public static final String RSA_DEFAULT_SEED = "$%^*%^()(CXT8eugene4";
 
+    /**
+     * AES分组长度，单位字节
+     */
+    public static final int AES_BLOCK_SIZE = 16;
+
+    /**
+     * AES文件加解密默认的映射分段大小，64MB，必须是{@link CodecKit#AES_BLOCK_SIZE}的整数倍
+     */
+    public static final int AES_CTR_SEGMENT_SIZE = 64 * 1024 * 1024;
+
     /**
      * 构造方法
      */
@@ -629,6 +652,146 @@ public class CodecKit {
         }
     }
 
+    /**
+     * <p>AES文件加密，默认128位长度的密钥，使用CPU核数作为并行线程数</p>
+     *
+     * @param key    密钥
+     * @param source 待加密的原始文件
+     * @param target 加密后的输出文件，文件存在时将被覆盖
+     */
+    public void aesEncryptFile(String key, Path source, Path target) {
+        this.aesEncryptFile(key, DigitsEnum.AES_128, source, target, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <p>AES文件加密，使用AES-CTR模式，源文件与目标文件均通过{@link FileChannel#map(FileChannel.MapMode, long, long)}映射至内存处理，不会将整个文件读入堆内存</p>
+     * <p>加密后的文件头部为16字节的随机初始向量，其后为与原始文件等长的密文</p>
+     *
+     * @param key         密钥
+     * @param digits      加密密钥长度，支持的加密密钥长度：{@link DigitsEnum#AES_128}、{@link DigitsEnum#AES_192}、{@link DigitsEnum#AES_256}
+     * @param source      待加密的原始文件
+     * @param target      加密后的输出文件，文件存在时将被覆盖
+     * @param parallelism 并行处理文件分段的线程数
+     */
+    public void aesEncryptFile(String key, DigitsEnum digits, Path source, Path target, int parallelism) {
+        SecretKeySpec keySpec = this.genAesKey(key, digits);
+        this.aesCtrEncryptOrDecryptFile(Cipher.ENCRYPT_MODE, keySpec, source, target, parallelism, CodecKit.AES_CTR_SEGMENT_SIZE);
+    }
+
+    /**
+     * <p>AES文件解密，默认128位长度的密钥，使用CPU核数作为并行线程数</p>
+     *
+     * @param key    密钥
+     * @param source 通过{@link CodecKit#aesEncryptFile(String, Path, Path)}加密的文件
+     * @param target 解密后的输出文件，文件存在时将被覆盖
+     */
+    public void aesDecryptFile(String key, Path source, Path target) {
+        this.aesDecryptFile(key, DigitsEnum.AES_128, source, target, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <p>AES文件解密，使用AES-CTR模式，源文件与目标文件均通过{@link FileChannel#map(FileChannel.MapMode, long, long)}映射至内存处理</p>
+     *
+     * @param key         密钥
+     * @param digits      加密密钥长度，必须与加密时使用的密钥长度一致
+     * @param source      通过{@link CodecKit#aesEncryptFile(String, DigitsEnum, Path, Path, int)}加密的文件
+     * @param target      解密后的输出文件，文件存在时将被覆盖
+     * @param parallelism 并行处理文件分段的线程数
+     */
+    public void aesDecryptFile(String key, DigitsEnum digits, Path source, Path target, int parallelism) {
+        SecretKeySpec keySpec = this.genAesKey(key, digits);
+        this.aesCtrEncryptOrDecryptFile(Cipher.DECRYPT_MODE, keySpec, source, target, parallelism, CodecKit.AES_CTR_SEGMENT_SIZE);
+    }
+
+    /**
+     * <p>AES-CTR文件加解密</p>
+     * <p>CTR模式下每个分组的密钥流只依赖于初始向量与分组序号，因此文件按分段大小切分后，各分段可独立计算计数器并在多个线程中并行处理。</p>
+     *
+     * @param mode        加密模式:{@link Cipher#ENCRYPT_MODE}；解密模式：{@link Cipher#DECRYPT_MODE}
+     * @param key         {@link SecretKeySpec}密钥，使用{@link CodecKit#genAesKey(String, DigitsEnum)}快速创建密钥
+     * @param source      源文件，解密时文件头部必须包含加密时写入的初始向量
+     * @param target      输出文件，文件存在时将被覆盖
+     * @param parallelism 并行处理文件分段的线程数
+     * @param segmentSize 每个映射分段的字节数，必须是AES分组长度（16字节）的整数倍
+     */
+    public void aesCtrEncryptOrDecryptFile(int mode, SecretKeySpec key, Path source, Path target, int parallelism, int segmentSize) {
+        if (segmentSize <= 0 || segmentSize % CodecKit.AES_BLOCK_SIZE != 0) {
+            throw new CodecException("AES文件加解密，分段大小必须是" + CodecKit.AES_BLOCK_SIZE + "的整数倍");
+        }
+        if (parallelism <= 0) {
+            throw new CodecException("AES文件加解密，并行线程数必须大于0");
+        }
+        try {
+            // 目标文件打开时即被清空，与源文件相同时会在读取前丢失源文件内容
+            if (Files.exists(target) && Files.isSameFile(source, target)) {
+                throw new CodecException("AES文件加解密，源文件与输出文件不能是同一个文件：" + target);
+            }
+        } catch (IOException e) {
+            throw new CodecException("AES文件加解密，读取文件发生错误", e);
+        }
+
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            byte[] iv = new byte[CodecKit.AES_BLOCK_SIZE];
+            long sourceOffset;
+            long targetOffset;
+            if (mode == Cipher.ENCRYPT_MODE) {
+                new SecureRandom().nextBytes(iv);
+                targetChannel.write(ByteBuffer.wrap(iv), 0);
+                sourceOffset = 0;
+                targetOffset = CodecKit.AES_BLOCK_SIZE;
+            } else {
+                ByteBuffer ivBuffer = ByteBuffer.wrap(iv);
+                while (ivBuffer.hasRemaining()) {
+                    if (sourceChannel.read(ivBuffer, ivBuffer.position()) < 0) {
+                        throw new CodecException("AES文件解密，文件缺少初始向量");
+                    }
+                }
+                sourceOffset = CodecKit.AES_BLOCK_SIZE;
+                targetOffset = 0;
+            }
+
+            long length = sourceChannel.size() - sourceOffset;
+            if (length <= 0) {
+                return;
+            }
+            // 预先扩展目标文件长度，避免多个线程映射时并发扩展文件
+            targetChannel.write(ByteBuffer.allocate(1), targetOffset + length - 1);
+
+            int segments = (int) ((length + segmentSize - 1) / segmentSize);
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, segments));
+            try {
+                List<Future<Void>> futures = new ArrayList<>(segments);
+                for (int i = 0; i < segments; i++) {
+                    long position = (long) i * segmentSize;
+                    int size = (int) Math.min(segmentSize, length - position);
+                    futures.add(executor.submit(() -> {
+                        MappedByteBuffer in = sourceChannel.map(FileChannel.MapMode.READ_ONLY, sourceOffset + position, size);
+                        MappedByteBuffer out = targetChannel.map(FileChannel.MapMode.READ_WRITE, targetOffset + position, size);
+                        Cipher cipher = Cipher.getInstance(AlgorithmsEnum.AES_CTR_CIPHER.getAlgorithms());
+                        cipher.init(mode, key, new IvParameterSpec(this.aesCtrCounter(iv, position / CodecKit.AES_BLOCK_SIZE)));
+                        cipher.doFinal(in, out);
+                        out.force();
+                        return null;
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        } catch (IOException e) {
+            throw new CodecException("AES文件加解密，读写文件发生错误", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CodecException("AES文件加解密被中断", e);
+        } catch (ExecutionException e) {
+            throw new CodecException("AES文件加解密发生错误", e.getCause());
+        }
+    }
+
     /**
      * <p>RSA加密</p>
      *
@@ -829,6 +992,24 @@ public class CodecKit {
         return this.encodeUrl(url, StandardCharsets.UTF_8);
     }
 
+    /**
+     * 计算AES-CTR模式下指定分组序号的计数器，计数器为初始向量按128位大端整数加上分组序号
+     *
+     * @param iv         初始向量
+     * @param blockIndex 分组序号
+     * @return 该分组对应的计数器
+     */
+    private byte[] aesCtrCounter(byte[] iv, long blockIndex) {
+        byte[] counter = iv.clone();
+        long carry = blockIndex;
+        for (int i = counter.length - 1; i >= 0 && carry != 0; i--) {
+            long sum = (counter[i] & 0xFF) + (carry & 0xFF);
+            counter[i] = (byte) sum;
+            carry = (carry >>> 8) + (sum >>> 8);
+        }
+        return counter;
+    }
+
     /**
      * RSA数据分段加解密
      *
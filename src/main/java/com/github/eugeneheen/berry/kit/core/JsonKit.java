@@ -3,31 +3,263 @@ package com.github.eugeneheen.berry.kit.core;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.eugeneheen.berry.kit.core.json.JsonArrayIterator;
+import com.github.eugeneheen.berry.kit.core.json.JsonArraySplitIterator;
+import com.github.eugeneheen.berry.kit.core.json.JsonAsyncReader;
+import com.github.eugeneheen.berry.kit.core.json.JsonBufferPool;
+import com.github.eugeneheen.berry.kit.core.json.JsonCodec;
+import com.github.eugeneheen.berry.kit.core.json.JsonCodecModule;
+import com.github.eugeneheen.berry.kit.core.json.JsonLinesIterator;
+import com.github.eugeneheen.berry.kit.core.json.JsonLinesWriter;
+import com.github.eugeneheen.berry.kit.core.json.JsonPatch;
+import com.github.eugeneheen.berry.kit.core.json.JsonPointerExtractor;
+import com.github.eugeneheen.berry.kit.core.json.JsonReader;
+import com.github.eugeneheen.berry.kit.core.json.JsonWriteCache;
+import com.github.eugeneheen.berry.kit.core.json.JsonWriter;
+import com.github.eugeneheen.berry.kit.core.json.LazyJsonMap;
+import com.github.eugeneheen.berry.kit.core.json.MappedFileInputStream;
+import com.github.eugeneheen.berry.kit.enumeration.JsonFormatEnum;
 import com.github.eugeneheen.berry.kit.exception.JsonParseException;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Json工具箱，提供JSON字符串、对象、Map之间的互转操作
+ * Json工具箱，提供JSON字符串、对象、Map之间的互转操作。
+ * 除JSON文本外，还支持Smile、CBOR、MessagePack等二进制数据格式（{@link JsonFormatEnum}），二进制格式使用字节数组或数据流的读写方法。
+ * <p>
+ * 实例创建后不可变且线程安全，可在多个线程中共享。每个实例持有独立的ObjectMapper及其序列化器缓存，创建实例的开销较大，
+ * 应通过{@link JsonKit#shared()}获取共享实例，或通过{@link JsonKit#shared(String, Supplier)}注册并复用命名实例，避免重复创建。
  * @author Eugene
  */
 public class JsonKit {
+    /**
+     * 读取JSON Lines文件流时的字符缓冲大小
+     */
+    private static final int LINES_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 按对象运行时类型缓存的JSON写入器数量上限，超过后不再缓存新的运行时类型
+     */
+    private static final int MAX_RUNTIME_WRITERS = 512;
+
+    /**
+     * 已注册的命名Json工具箱
+     */
+    private static final ConcurrentMap<String, JsonKit> REGISTRY = new ConcurrentHashMap<>();
+
     /**
      * ObjectMapper类型的JSON解析器
      */
-    private ObjectMapper objectMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 注册了规范化模块的ObjectMapper，只用于读取Map、List结果，未开启规范化时为null
+     */
+    private final ObjectMapper canonicalMapper;
+
+    /**
+     * 数据格式
+     */
+    private final JsonFormatEnum format;
+
+    /**
+     * 是否已启用Afterburner字节码加速
+     */
+    private final boolean accelerated;
+
+    /**
+     * 序列化输出缓冲池，为null时由Jackson按次分配输出缓冲
+     */
+    private final JsonBufferPool bufferPool;
+
+    /**
+     * 创建时使用的构造器配置，切换数据格式时以相同配置创建其他格式的Json工具箱
+     */
+    private final JsonKitBuilder builder;
+
+    /**
+     * 同一构造器配置下各数据格式的Json工具箱，由相互切换格式的Json工具箱共享
+     */
+    private final ConcurrentMap<JsonFormatEnum, JsonKit> formatKits;
+
+    /**
+     * 按类型缓存的JSON读取器，避免每次读取时重复解析类型与根反序列化器
+     */
+    private final ConcurrentMap<JavaType, JsonReader<?>> readers = new ConcurrentHashMap<>();
+
+    /**
+     * 按类型缓存的Map、List结果的规范化JSON读取器
+     */
+    private final ConcurrentMap<JavaType, JsonReader<?>> canonicalReaders = new ConcurrentHashMap<>();
+
+    /**
+     * 按类型缓存的JSON写入器，避免每次写入时重复查找根序列化器。通过{@link JsonKit#writer(Class)}声明的类型总是缓存，
+     * 写入对象时按运行时类型缓存的数量不超过{@link JsonKit#MAX_RUNTIME_WRITERS}，避免匿名类、代理类等大量运行时类型使缓存无限增长
+     */
+    private final ConcurrentMap<Class<?>, JsonWriter<?>> writers = new ConcurrentHashMap<>();
+
+    /**
+     * 按集合类型、元素类型缓存的集合结果类型，避免每次读取集合时重复构建JavaType
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, JavaType>> collectionTypes = new ConcurrentHashMap<>();
+
+    /**
+     * 序列化缓存，未开启时为null
+     */
+    private final JsonWriteCache writeCache;
+
+    /**
+     * JSON Patch的差异计算与应用
+     */
+    private final JsonPatch jsonPatch;
 
     public JsonKit() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,false);
+        this(JsonKitBuilder.newJsonKitBuilder(), JsonFormatEnum.JSON, null);
+    }
+
+    /**
+     * 使用自定义配置的ObjectMapper创建Json工具箱，默认配置可通过{@link JsonKit#createObjectMapper()}获取。
+     * 数据格式由ObjectMapper使用的JsonFactory确定，通过{@link JsonKit#format(JsonFormatEnum)}切换至其他格式时使用默认配置
+     * @param objectMapper 已配置的ObjectMapper
+     */
+    public JsonKit(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.canonicalMapper = null;
+        this.format = JsonKit.detectFormat(objectMapper);
+        this.accelerated = false;
+        this.bufferPool = null;
+        this.writeCache = null;
+        this.jsonPatch = new JsonPatch(objectMapper);
+        this.builder = JsonKitBuilder.newJsonKitBuilder();
+        this.formatKits = new ConcurrentHashMap<>();
+        this.formatKits.put(this.format, this);
+    }
+
+    /**
+     * 按构造器配置创建指定数据格式的Json工具箱
+     * @param builder 构造器配置，创建后不再修改
+     * @param format 数据格式
+     * @param formatKits 共享的各数据格式Json工具箱，为null时创建新的共享集合并登记当前实例
+     */
+    JsonKit(JsonKitBuilder builder, JsonFormatEnum format, ConcurrentMap<JsonFormatEnum, JsonKit> formatKits) {
+        this.objectMapper = JsonKit.createObjectMapper(format);
+        this.format = format;
+        this.accelerated = builder.configure(this.objectMapper);
+        this.canonicalMapper = builder.createCanonicalMapper(this.objectMapper);
+        this.bufferPool = builder.createBufferPool();
+        this.writeCache = builder.createWriteCache();
+        this.jsonPatch = new JsonPatch(this.objectMapper);
+        this.builder = builder;
+        if (formatKits == null) {
+            this.formatKits = new ConcurrentHashMap<>();
+            this.formatKits.put(format, this);
+        } else {
+            this.formatKits = formatKits;
+        }
+    }
+
+    /**
+     * 获取默认配置的共享Json工具箱，首次调用时创建，此后始终返回同一实例
+     * @return 共享Json工具箱
+     */
+    public static JsonKit shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * 获取已注册的命名Json工具箱
+     * @param name 名称
+     * @return 命名Json工具箱
+     * @throws JsonParseException 名称未注册时抛出异常
+     */
+    public static JsonKit shared(String name) throws JsonParseException {
+        JsonKit jsonKit = REGISTRY.get(name);
+        if (jsonKit == null) {
+            throw new JsonParseException("名称为：" + name + "，的Json工具箱未注册");
+        }
+        return jsonKit;
+    }
+
+    /**
+     * 获取命名Json工具箱，名称未注册时使用factory创建并注册，同一名称只创建一次，
+     * 例如：{@code JsonKit.shared("rpc", () -> JsonKitBuilder.newJsonKitBuilder().format(JsonFormatEnum.SMILE).build())}
+     * @param name 名称
+     * @param factory 名称未注册时创建Json工具箱
+     * @return 命名Json工具箱
+     */
+    public static JsonKit shared(String name, Supplier<JsonKit> factory) {
+        return REGISTRY.computeIfAbsent(name, key -> factory.get());
+    }
+
+    /**
+     * 注册命名Json工具箱，名称已注册时替换原有实例
+     * @param name 名称
+     * @param jsonKit Json工具箱
+     * @return 原有实例，名称未注册时返回null
+     */
+    public static JsonKit register(String name, JsonKit jsonKit) {
+        return REGISTRY.put(name, jsonKit);
+    }
+
+    /**
+     * 注销命名Json工具箱
+     * @param name 名称
+     * @return 已注销的实例，名称未注册时返回null
+     */
+    public static JsonKit unregister(String name) {
+        return REGISTRY.remove(name);
+    }
+
+    /**
+     * 创建Json工具箱默认配置的ObjectMapper：字段可见性为ANY，忽略未知属性，标记了{@link JsonCodec}的类使用编译期生成的编解码器
+     * @return ObjectMapper
+     */
+    public static ObjectMapper createObjectMapper() {
+        return JsonKit.createObjectMapper(JsonFormatEnum.JSON);
+    }
+
+    /**
+     * 创建指定数据格式、Json工具箱默认配置的ObjectMapper：字段可见性为ANY，忽略未知属性，标记了{@link JsonCodec}的类使用编译期生成的编解码器
+     * @param format 数据格式，二进制格式需要引入对应的Jackson数据格式依赖
+     * @return ObjectMapper
+     * @throws JsonParseException 未引入数据格式依赖时抛出异常
+     */
+    public static ObjectMapper createObjectMapper(JsonFormatEnum format) throws JsonParseException {
+        ObjectMapper objectMapper = new ObjectMapper(JsonKit.createJsonFactory(format));
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,false);
+        objectMapper.registerModule(new JsonCodecModule());
+        return objectMapper;
     }
 
     /**
@@ -39,13 +271,8 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public <T> T read(String json, Class<T> clazz) throws JsonParseException {
-        T t;
-        try {
-            t = this.objectMapper.readValue(json, clazz);
-        } catch (IOException e) {
-            throw new JsonParseException("JSON字符串转换为对象:" + clazz.getName() + "，时发生异常!", e);
-        }
-        return t;
+        this.assertTextFormat();
+        return this.reader(clazz).read(json);
     }
 
     /**
@@ -57,13 +284,57 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public <T> T read(InputStream file, Class<T> clazz) throws JsonParseException {
-        T t;
-        try {
-            t = this.objectMapper.readValue(file, clazz);
-        } catch (IOException e) {
-            throw new JsonParseException("JSON文件流转换为对象:" + clazz.getName() + "，时发生异常!", e);
-        }
-        return t;
+        return this.reader(clazz).read(file);
+    }
+
+    /**
+     * 解析本地JSON文件为一个指定类型的对象，文件以内存映射的方式读取，适用于启动时加载较大的配置或参考数据文件
+     * @param path JSON文件路径
+     * @param clazz 转换输出类型
+     * @param <T> 泛型定义
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public <T> T read(Path path, Class<T> clazz) throws JsonParseException {
+        return this.reader(clazz).read(new MappedFileInputStream(path));
+    }
+
+    /**
+     * 解析JSON字节数组为一个指定类型的对象，字节数组需为UTF-8、UTF-16或UTF-32编码
+     * @param bytes JSON字节数组
+     * @param clazz 转换输出类型
+     * @param <T> 泛型定义
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> T read(byte[] bytes, Class<T> clazz) throws JsonParseException {
+        return this.reader(clazz).read(bytes);
+    }
+
+    /**
+     * 解析JSON字节数组中的指定区间为一个指定类型的对象，直接从字节解析，不会转换为中间字符串
+     * @param bytes JSON字节数组
+     * @param offset JSON内容在字节数组中的起始位置
+     * @param length JSON内容的字节长度
+     * @param clazz 转换输出类型
+     * @param <T> 泛型定义
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> T read(byte[] bytes, int offset, int length, Class<T> clazz) throws JsonParseException {
+        return this.reader(clazz).read(bytes, offset, length);
+    }
+
+    /**
+     * 解析ByteBuffer中剩余的JSON内容（position至limit）为一个指定类型的对象，解析完成后ByteBuffer的position将移动至limit
+     * @param buffer JSON内容的ByteBuffer，支持堆内存与直接内存
+     * @param clazz 转换输出类型
+     * @param <T> 泛型定义
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> T read(ByteBuffer buffer, Class<T> clazz) throws JsonParseException {
+        return this.reader(clazz).read(buffer);
     }
 
     /**
@@ -73,12 +344,8 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public Map<String, Object> readAsMap(String json) throws JsonParseException {
-        Map<String, Object> map;
-        try {
-            map = this.objectMapper.readValue(json, Map.class);
-        } catch (IOException e) {
-            throw new JsonParseException("JSON文件流转换为对象Map对象时发生异常!", e);
-        }
+        this.assertTextFormat();
+        Map<String, Object> map = this.<Map<String, Object>>untypedReader(this.objectMapper.constructType(Map.class)).read(json);
         return map;
     }
 
@@ -89,15 +356,44 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public Map<String, Object> readAsMap(InputStream file) throws JsonParseException {
-        Map<String, Object> map;
-        try {
-            map = this.objectMapper.readValue(file, Map.class);
-        } catch (IOException e) {
-            throw new JsonParseException("JSON文件流转换为对象Map对象时发生异常!", e);
-        }
+        Map<String, Object> map = this.<Map<String, Object>>untypedReader(this.objectMapper.constructType(Map.class)).read(file);
         return map;
     }
 
+    /**
+     * 解析本地JSON文件为一个Map对象，文件以内存映射的方式读取
+     * @param path JSON文件路径
+     * @return Map对象
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public Map<String, Object> readAsMap(Path path) throws JsonParseException {
+        Map<String, Object> map = this.<Map<String, Object>>untypedReader(this.objectMapper.constructType(Map.class)).read(new MappedFileInputStream(path));
+        return map;
+    }
+
+    /**
+     * 解析JSON字符串为一个延迟解析的只读Map视图，只建立字段位置索引，字段值在首次访问时才物化，适用于只读取少量字段的动态报文
+     * @param json JSON字符串，内容必须是JSON对象
+     * @return 延迟解析的只读Map视图
+     * @throws JsonParseException JSON解析异常
+     */
+    public Map<String, Object> readAsLazyMap(String json) throws JsonParseException {
+        this.assertTextFormat();
+        return this.readAsLazyMap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析UTF-8编码的JSON字节数组为一个延迟解析的只读Map视图，只建立字段位置索引，字段值在首次访问时才物化，
+     * 嵌套的对象与数组同样延迟解析。视图持有字节数组的引用，调用方不可再修改该字节数组
+     * @param bytes UTF-8编码的JSON字节数组，内容必须是JSON对象
+     * @return 延迟解析的只读Map视图
+     * @throws JsonParseException JSON解析异常
+     */
+    public Map<String, Object> readAsLazyMap(byte[] bytes) throws JsonParseException {
+        this.assertTextFormat();
+        return LazyJsonMap.of(bytes, 0, bytes.length, this.objectMapper.getFactory(), this.reader(Object.class));
+    }
+
     /**
      * 解析JSON字符串为一个自定义泛型的集合
      * @param json JSON字符串
@@ -108,14 +404,8 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public <T> T readAsCollection(String json, Class<? extends Collection> collectionClazz, Class<?> clazz) throws JsonParseException {
-        T t;
-        try {
-            t = this.objectMapper.readValue(json, this.getCollectionType(collectionClazz, clazz));
-        } catch (IOException e) {
-            throw new JsonParseException("JSON字符串转换为集合类型，时发生异常!", e);
-        }
-
-        return t;
+        this.assertTextFormat();
+        return this.<T>untypedReader(this.getCollectionType(collectionClazz, clazz)).read(json);
     }
 
     /**
@@ -128,14 +418,7 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public <T> T readAsCollection(Collection collection, Class<? extends Collection> collectionClazz, Class<?> clazz) throws JsonParseException {
-        T t;
-        try {
-            t = this.objectMapper.readValue(this.write(collection), this.getCollectionType(collectionClazz, clazz));
-        } catch (IOException e) {
-            throw new JsonParseException("JSON字符串转换为集合类型，时发生异常!", e);
-        }
-
-        return t;
+        return this.convert(collection, this.getCollectionType(collectionClazz, clazz));
     }
 
     /**
@@ -148,14 +431,309 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public <T> T readAsCollection(InputStream inputStream, Class<? extends Collection> collectionClazz, Class<?> clazz) throws JsonParseException {
-        T t;
+        return this.<T>untypedReader(this.getCollectionType(collectionClazz, clazz)).read(inputStream);
+    }
+
+    /**
+     * 解析本地JSON文件为一个自定义泛型的集合，文件以内存映射的方式读取
+     * @param path JSON文件路径
+     * @param collectionClazz 转换结果的集合Class类型
+     * @param clazz 转换结果集合存放的元素Class类型
+     * @param <T> 泛型定义
+     * @return Collection集合
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public <T> T readAsCollection(Path path, Class<? extends Collection> collectionClazz, Class<?> clazz) throws JsonParseException {
+        return this.<T>untypedReader(this.getCollectionType(collectionClazz, clazz)).read(new MappedFileInputStream(path));
+    }
+
+    /**
+     * 流式解析JSON文件流中的顶层数组，逐个返回指定类型的元素，不会将整个数组加载至内存
+     * @param inputStream JSON文件流，内容必须是JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param <T> 泛型定义
+     * @return 数组元素迭代器，迭代结束时自动关闭文件流，提前结束迭代时需调用{@link JsonArrayIterator#close()}
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> JsonArrayIterator<T> readAsIterator(InputStream inputStream, Class<T> clazz) throws JsonParseException {
+        return new JsonArrayIterator<>(this.createParser(inputStream), this.reader(clazz));
+    }
+
+    /**
+     * 流式解析本地JSON文件中的顶层数组，逐个返回指定类型的元素，文件以内存映射的方式读取，已读取的映射页可由操作系统按需换出
+     * @param path JSON文件路径，内容必须是JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param <T> 泛型定义
+     * @return 数组元素迭代器，提前结束迭代时需调用{@link JsonArrayIterator#close()}
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public <T> JsonArrayIterator<T> readAsIterator(Path path, Class<T> clazz) throws JsonParseException {
+        return this.readAsIterator(new MappedFileInputStream(path), clazz);
+    }
+
+    /**
+     * 流式解析JSON文件流中的顶层数组，以顺序Stream的方式逐个返回指定类型的元素，不会将整个数组加载至内存
+     * @param inputStream JSON文件流，内容必须是JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param <T> 泛型定义
+     * @return 数组元素Stream，建议在try-with-resources中使用，关闭Stream时关闭文件流
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> Stream<T> readAsStream(InputStream inputStream, Class<T> clazz) throws JsonParseException {
+        JsonArrayIterator<T> iterator = this.readAsIterator(inputStream, clazz);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * 流式解析本地JSON文件中的顶层数组，以顺序Stream的方式逐个返回指定类型的元素，文件以内存映射的方式读取
+     * @param path JSON文件路径，内容必须是JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param <T> 泛型定义
+     * @return 数组元素Stream，建议在try-with-resources中使用
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public <T> Stream<T> readAsStream(Path path, Class<T> clazz) throws JsonParseException {
+        return this.readAsStream(new MappedFileInputStream(path), clazz);
+    }
+
+    /**
+     * 并行解析JSON文件流中的顶层数组，先扫描顶层元素的边界，再将元素按批提交至ForkJoinPool并行绑定，返回顺序与数组中的元素顺序一致
+     * @param inputStream UTF-8编码的JSON文件流，内容必须是JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param pool 并行绑定使用的线程池，例如{@link ForkJoinPool#commonPool()}
+     * @param <T> 泛型定义
+     * @return 数组元素迭代器，迭代结束时自动关闭文件流，提前结束迭代时需调用{@link JsonArraySplitIterator#close()}
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> JsonArraySplitIterator<T> readAsIterator(InputStream inputStream, Class<T> clazz, ForkJoinPool pool) throws JsonParseException {
+        this.assertTextFormat();
+        return new JsonArraySplitIterator<>(inputStream, this.objectMapper.getFactory(), this.reader(clazz), pool);
+    }
+
+    /**
+     * 并行解析JSON文件流中的顶层数组，以顺序Stream的方式返回元素，元素在ForkJoinPool中并行绑定
+     * @param inputStream UTF-8编码的JSON文件流，内容必须是JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param pool 并行绑定使用的线程池
+     * @param <T> 泛型定义
+     * @return 数组元素Stream，建议在try-with-resources中使用，关闭Stream时关闭文件流
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> Stream<T> readAsStream(InputStream inputStream, Class<T> clazz, ForkJoinPool pool) throws JsonParseException {
+        JsonArraySplitIterator<T> iterator = this.readAsIterator(inputStream, clazz, pool);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * 并行解析本地JSON文件中的顶层数组，以顺序Stream的方式返回元素，文件以内存映射的方式读取，元素在ForkJoinPool中并行绑定
+     * @param path JSON文件路径，内容必须是UTF-8编码的JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param pool 并行绑定使用的线程池
+     * @param <T> 泛型定义
+     * @return 数组元素Stream，建议在try-with-resources中使用
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public <T> Stream<T> readAsStream(Path path, Class<T> clazz, ForkJoinPool pool) throws JsonParseException {
+        return this.readAsStream(new MappedFileInputStream(path), clazz, pool);
+    }
+
+    /**
+     * 并行解析本地JSON文件中的顶层数组为List，文件以内存映射的方式读取，元素在ForkJoinPool中并行绑定，List中的顺序与数组中的元素顺序一致
+     * @param path JSON文件路径，内容必须是UTF-8编码的JSON数组
+     * @param clazz 数组元素的Class类型
+     * @param pool 并行绑定使用的线程池
+     * @param <T> 泛型定义
+     * @return 数组元素List
+     * @throws JsonParseException JSON解析异常，或文件映射失败
+     */
+    public <T> List<T> readAsList(Path path, Class<T> clazz, ForkJoinPool pool) throws JsonParseException {
+        List<T> list = new ArrayList<>();
+        try (JsonArraySplitIterator<T> iterator = this.readAsIterator(new MappedFileInputStream(path), clazz, pool)) {
+            iterator.forEachRemaining(list::add);
+        }
+        return list;
+    }
+
+    /**
+     * 按JSON Pointer路径提取JSON字符串中的单个值，跳过无关子树且找到后立即停止读取，不会构建完整对象
+     * @param json JSON字符串
+     * @param path JSON Pointer路径，例如：/data/items/0/id
+     * @param clazz 提取值的Class类型
+     * @param <T> 泛型定义
+     * @return 路径上的值，路径不存在时返回null
+     * @throws JsonParseException JSON解析异常
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T extract(String json, String path, Class<T> clazz) throws JsonParseException {
+        this.assertTextFormat();
+        JsonPointerExtractor extractor = new JsonPointerExtractor(Collections.singletonList(path), Collections.singletonList(this.reader(clazz)));
+        return (T) this.extract(this.createParser(json), extractor).get(path);
+    }
+
+    /**
+     * 按JSON Pointer路径提取JSON文件流中的单个值，跳过无关子树且找到后立即停止读取，不会构建完整对象
+     * @param inputStream JSON文件流，提取完成后关闭
+     * @param path JSON Pointer路径，例如：/data/items/0/id
+     * @param clazz 提取值的Class类型
+     * @param <T> 泛型定义
+     * @return 路径上的值，路径不存在时返回null
+     * @throws JsonParseException JSON解析异常
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T extract(InputStream inputStream, String path, Class<T> clazz) throws JsonParseException {
+        JsonPointerExtractor extractor = new JsonPointerExtractor(Collections.singletonList(path), Collections.singletonList(this.reader(clazz)));
+        return (T) this.extract(this.createParser(inputStream), extractor).get(path);
+    }
+
+    /**
+     * 按多个JSON Pointer路径提取JSON字符串中的值，所有路径均已找到时立即停止读取
+     * @param json JSON字符串
+     * @param paths JSON Pointer路径
+     * @return 以路径为键的提取结果，值为Map、List或基本类型，不存在的路径不包含在结果中
+     * @throws JsonParseException JSON解析异常
+     */
+    public Map<String, Object> extractAll(String json, String... paths) throws JsonParseException {
+        this.assertTextFormat();
+        return this.extract(this.createParser(json), this.extractor(paths));
+    }
+
+    /**
+     * 按多个JSON Pointer路径提取JSON文件流中的值，所有路径均已找到时立即停止读取
+     * @param inputStream JSON文件流，提取完成后关闭
+     * @param paths JSON Pointer路径
+     * @return 以路径为键的提取结果，值为Map、List或基本类型，不存在的路径不包含在结果中
+     * @throws JsonParseException JSON解析异常
+     */
+    public Map<String, Object> extractAll(InputStream inputStream, String... paths) throws JsonParseException {
+        return this.extract(this.createParser(inputStream), this.extractor(paths));
+    }
+
+    /**
+     * 计算将源JSON转换为目标JSON的JSON Patch（RFC 6902），字节完全相同的子树直接跳过，只展开存在差异的路径
+     * @param source 源JSON字符串
+     * @param target 目标JSON字符串
+     * @return JSON Patch字符串，两者相同时为空数组
+     * @throws JsonParseException JSON解析异常
+     */
+    public String diff(String source, String target) throws JsonParseException {
+        this.assertTextFormat();
+        return this.write(this.jsonPatch.diff(source.getBytes(StandardCharsets.UTF_8), target.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 计算将源JSON转换为目标JSON的JSON Patch（RFC 6902），字节完全相同的子树直接跳过，只展开存在差异的路径
+     * @param source 源JSON，UTF-8编码的字节数组
+     * @param target 目标JSON，UTF-8编码的字节数组
+     * @return UTF-8编码的JSON Patch字节数组，两者相同时为空数组
+     * @throws JsonParseException JSON解析异常
+     */
+    public byte[] diff(byte[] source, byte[] target) throws JsonParseException {
+        this.assertTextFormat();
+        return this.writeAsBytes(this.jsonPatch.diff(source, target));
+    }
+
+    /**
+     * 对JSON应用JSON Patch（RFC 6902），任一操作失败时抛出异常
+     * @param json JSON字符串
+     * @param patch JSON Patch字符串
+     * @return 应用补丁后的JSON字符串
+     * @throws JsonParseException JSON解析异常，或补丁无法应用
+     */
+    public String patch(String json, String patch) throws JsonParseException {
+        this.assertTextFormat();
+        return this.write(this.jsonPatch.apply(this.read(json, JsonNode.class), this.read(patch, JsonNode.class)));
+    }
+
+    /**
+     * 对JSON应用JSON Patch（RFC 6902），任一操作失败时抛出异常
+     * @param json UTF-8编码的JSON字节数组
+     * @param patch UTF-8编码的JSON Patch字节数组
+     * @return 应用补丁后UTF-8编码的JSON字节数组
+     * @throws JsonParseException JSON解析异常，或补丁无法应用
+     */
+    public byte[] patch(byte[] json, byte[] patch) throws JsonParseException {
+        this.assertTextFormat();
+        return this.writeAsBytes(this.jsonPatch.apply(this.read(json, JsonNode.class), this.read(patch, JsonNode.class)));
+    }
+
+    /**
+     * 创建非阻塞的增量读取器，数据块到达时通过{@link JsonAsyncReader#feed(byte[], int, int)}喂入，
+     * 每解析出一个完整的值即回调consumer，顶层为JSON数组时逐个回调数组元素，数据全部到达后调用{@link JsonAsyncReader#end()}
+     * @param clazz 值的Class类型
+     * @param consumer 解析出完整值时的回调
+     * @param <T> 泛型定义
+     * @return 增量读取器
+     * @throws JsonParseException 当前数据格式不支持非阻塞解析时抛出异常
+     */
+    public <T> JsonAsyncReader<T> readAsync(Class<T> clazz, Consumer<? super T> consumer) throws JsonParseException {
+        JsonFactory factory = this.objectMapper.getFactory();
+        if (!factory.canParseAsync()) {
+            throw new JsonParseException(this.format + "数据格式不支持非阻塞解析");
+        }
+        JsonParser parser;
         try {
-            t = this.objectMapper.readValue(inputStream, this.getCollectionType(collectionClazz, clazz));
+            parser = factory.createNonBlockingByteArrayParser();
         } catch (IOException e) {
-            throw new JsonParseException("JSON文件流转换为集合类型，时发生异常!", e);
+            throw new JsonParseException("创建非阻塞解析器，时发生异常!", e);
         }
+        return new JsonAsyncReader<>(parser, this.reader(clazz), consumer);
+    }
 
-        return t;
+    /**
+     * 流式解析JSON Lines（NDJSON）文件流，按换行符拆分记录，在当前线程逐条解析
+     * @param inputStream UTF-8编码的JSON Lines文件流
+     * @param clazz 记录的Class类型
+     * @param <T> 泛型定义
+     * @return 记录迭代器，迭代结束时自动关闭文件流，提前结束迭代时需调用{@link JsonLinesIterator#close()}
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> JsonLinesIterator<T> readLines(InputStream inputStream, Class<T> clazz) throws JsonParseException {
+        return this.readLines(inputStream, clazz, null);
+    }
+
+    /**
+     * 流式解析JSON Lines（NDJSON）文件流，按换行符拆分记录，记录按批提交至ForkJoinPool并行解析，返回顺序与记录顺序一致
+     * @param inputStream UTF-8编码的JSON Lines文件流
+     * @param clazz 记录的Class类型
+     * @param pool 并行解析使用的线程池，例如{@link ForkJoinPool#commonPool()}，为null时在当前线程逐条解析
+     * @param <T> 泛型定义
+     * @return 记录迭代器，迭代结束时自动关闭文件流，提前结束迭代时需调用{@link JsonLinesIterator#close()}
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> JsonLinesIterator<T> readLines(InputStream inputStream, Class<T> clazz, ForkJoinPool pool) throws JsonParseException {
+        this.assertTextFormat();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), LINES_BUFFER_SIZE);
+        return new JsonLinesIterator<>(reader, this.reader(clazz), pool);
+    }
+
+    /**
+     * 流式解析JSON Lines（NDJSON）文件流，以顺序Stream的方式逐条返回记录
+     * @param inputStream UTF-8编码的JSON Lines文件流
+     * @param clazz 记录的Class类型
+     * @param pool 并行解析使用的线程池，为null时在当前线程逐条解析
+     * @param <T> 泛型定义
+     * @return 记录Stream，建议在try-with-resources中使用，关闭Stream时关闭文件流
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> Stream<T> readLinesAsStream(InputStream inputStream, Class<T> clazz, ForkJoinPool pool) throws JsonParseException {
+        JsonLinesIterator<T> iterator = this.readLines(inputStream, clazz, pool);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * 创建JSON Lines（NDJSON）写入器，所有记录共用同一个生成器，以UTF-8编码逐行写入输出流
+     * @param outputStream 输出流，关闭写入器时一并关闭
+     * @param clazz 记录的Class类型
+     * @param <T> 泛型定义
+     * @return JSON Lines写入器
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> JsonLinesWriter<T> writeLines(OutputStream outputStream, Class<T> clazz) throws JsonParseException {
+        this.assertTextFormat();
+        return new JsonLinesWriter<>(outputStream, this.writer(clazz));
     }
 
     /**
@@ -165,13 +743,8 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public String write(Map<String, Object> map) throws JsonParseException {
-        String result;
-        try {
-            result = this.objectMapper.writeValueAsString(map);
-        } catch (JsonProcessingException e) {
-            throw new JsonParseException(map + "转换为JSON字符串发生异常", e);
-        }
-        return result;
+        this.assertTextFormat();
+        return this.writerFor(map).write(map);
     }
 
     /**
@@ -181,13 +754,242 @@ public class JsonKit {
      * @throws JsonParseException JSON解析异常
      */
     public String write(Object object) throws JsonParseException {
-        String result;
-        try {
-            result = this.objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new JsonParseException(object.getClass().getCanonicalName() + "转换为JSON字符串发生异常", e);
+        this.assertTextFormat();
+        return this.writerFor(object).write(object);
+    }
+
+    /**
+     * 解析Java对象为UTF-8编码的JSON字节数组，直接编码为字节，不会生成中间字符串
+     * @param object Java对象，Tip:Collection实现类List、Set也可直接转换
+     * @return UTF-8编码的JSON字节数组
+     * @throws JsonParseException JSON解析异常
+     */
+    public byte[] writeAsBytes(Object object) throws JsonParseException {
+        return this.writerFor(object).writeAsBytes(object);
+    }
+
+    /**
+     * 解析Java对象为UTF-8编码的JSON，直接写入输出流。写入完成后刷新输出流，但不会关闭输出流
+     * @param object Java对象，Tip:Collection实现类List、Set也可直接转换
+     * @param outputStream 输出流
+     * @throws JsonParseException JSON解析异常
+     */
+    public void write(Object object, OutputStream outputStream) throws JsonParseException {
+        this.writerFor(object).write(object, outputStream);
+    }
+
+    /**
+     * 按对象身份缓存序列化结果，同一对象再次序列化时直接返回缓存的字节，适用于不可变对象，对象被GC回收后条目自动移除
+     * @param object 不可变的Java对象
+     * @return 序列化后的字节数组，为缓存内容，调用方不可修改；未通过{@link JsonKitBuilder#writeCache(int, long)}开启缓存时直接序列化
+     * @throws JsonParseException JSON解析异常
+     */
+    public byte[] writeAsBytesCached(Object object) throws JsonParseException {
+        if (this.writeCache == null) {
+            return this.writeAsBytes(object);
+        }
+        return this.writeCache.get(object, () -> this.writeAsBytes(object));
+    }
+
+    /**
+     * 按键与版本号缓存序列化结果，版本号不变时直接返回缓存的字节，且不会调用supplier构建对象；版本号变化时重新序列化并替换原条目
+     * @param key 缓存键，需正确实现equals与hashCode，例如配置名称、商品编号
+     * @param version 版本号，例如修改时间戳或递增的版本号
+     * @param supplier 构建待序列化的Java对象，只在未命中时调用
+     * @return 序列化后的字节数组，为缓存内容，调用方不可修改；未通过{@link JsonKitBuilder#writeCache(int, long)}开启缓存时直接序列化
+     * @throws JsonParseException JSON解析异常
+     */
+    public byte[] writeAsBytesCached(Object key, long version, Supplier<?> supplier) throws JsonParseException {
+        if (this.writeCache == null) {
+            return this.writeAsBytes(supplier.get());
+        }
+        return this.writeCache.get(key, version, () -> this.writeAsBytes(supplier.get()));
+    }
+
+    /**
+     * 按对象身份缓存序列化结果，并将缓存的字节直接写入输出流。写入完成后刷新输出流，但不会关闭输出流
+     * @param object 不可变的Java对象
+     * @param outputStream 输出流
+     * @throws JsonParseException JSON解析异常，或写入输出流发生异常
+     */
+    public void writeCached(Object object, OutputStream outputStream) throws JsonParseException {
+        this.writeBytes(this.writeAsBytesCached(object), outputStream);
+    }
+
+    /**
+     * 按键与版本号缓存序列化结果，并将缓存的字节直接写入输出流。写入完成后刷新输出流，但不会关闭输出流
+     * @param key 缓存键
+     * @param version 版本号
+     * @param supplier 构建待序列化的Java对象，只在未命中时调用
+     * @param outputStream 输出流
+     * @throws JsonParseException JSON解析异常，或写入输出流发生异常
+     */
+    public void writeCached(Object key, long version, Supplier<?> supplier, OutputStream outputStream) throws JsonParseException {
+        this.writeBytes(this.writeAsBytesCached(key, version, supplier), outputStream);
+    }
+
+    /**
+     * 解析Java对象为JSON，直接写入字符输出流。写入完成后刷新字符输出流，但不会关闭字符输出流
+     * @param object Java对象，Tip:Collection实现类List、Set也可直接转换
+     * @param writer 字符输出流
+     * @throws JsonParseException JSON解析异常
+     */
+    public void write(Object object, Writer writer) throws JsonParseException {
+        this.assertTextFormat();
+        this.writerFor(object).write(object, writer);
+    }
+
+    /**
+     * 解析Java对象为UTF-8编码的JSON，从ByteBuffer的当前position开始写入，写入完成后position移动至JSON内容末尾，空间不足时position保持不变
+     * @param object Java对象，Tip:Collection实现类List、Set也可直接转换
+     * @param buffer 写入目标ByteBuffer，支持堆内存与直接内存
+     * @return 写入的字节数
+     * @throws JsonParseException JSON解析异常，ByteBuffer剩余空间不足时同样抛出此异常
+     */
+    public int write(Object object, ByteBuffer buffer) throws JsonParseException {
+        return this.writerFor(object).write(object, buffer);
+    }
+
+    /**
+     * 转换Java对象为另一个指定类型的对象，例如POJO与Map之间的互转
+     * @param object 待转换的Java对象
+     * @param clazz 转换输出类型
+     * @param <T> 泛型定义
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> T convert(Object object, Class<T> clazz) throws JsonParseException {
+        return this.convert(object, this.objectMapper.constructType(clazz));
+    }
+
+    /**
+     * 转换Java对象为另一个指定类型的对象。对象先序列化至内存中的{@link TokenBuffer}标记缓冲，再从标记缓冲反序列化，
+     * 不会生成中间JSON文本，也不会进行字符编码与数字文本解析。结果总是新创建的对象，即使源对象已经是目标类型
+     * @param object 待转换的Java对象
+     * @param type 转换输出类型，集合类型可通过{@link JsonKit#getCollectionType(Class, Class)}构建
+     * @param <T> 泛型定义
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public <T> T convert(Object object, JavaType type) throws JsonParseException {
+        T t;
+        try (TokenBuffer buffer = new TokenBuffer(this.objectMapper, false)) {
+            this.writerFor(object).getObjectWriter().writeValue(buffer, object);
+            t = this.<T>reader(type).read(buffer.asParser());
+        } catch (IOException e) {
+            throw new JsonParseException("对象转换为:" + type.toCanonical() + "，时发生异常!", e);
+        }
+        return t;
+    }
+
+    /**
+     * 获取指定类型的JSON读取器，读取器在首次获取时构建并缓存，可由调用方长期持有并在多个线程中共享
+     * @param clazz 读取结果类型
+     * @param <T> 泛型定义
+     * @return 指定类型的JSON读取器
+     */
+    public <T> JsonReader<T> reader(Class<T> clazz) {
+        return this.reader(this.objectMapper.constructType(clazz));
+    }
+
+    /**
+     * 获取指定类型的JSON读取器，适用于集合等泛型类型，可通过{@link JsonKit#getCollectionType(Class, Class)}构建集合类型
+     * @param type 读取结果类型
+     * @param <T> 泛型定义
+     * @return 指定类型的JSON读取器
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonReader<T> reader(JavaType type) {
+        return (JsonReader<T>) this.readers.computeIfAbsent(type,
+                key -> new JsonReader<>(key, this.objectMapper.readerFor(key)));
+    }
+
+    /**
+     * 获取readAsMap、readAsCollection使用的JSON读取器，开启规范化且结果中只有Map、List等无类型容器时使用规范化读取器，
+     * 其余类型（包括POJO）使用默认读取器
+     * @param type 读取结果类型
+     * @param <T> 泛型定义
+     * @return JSON读取器
+     */
+    @SuppressWarnings("unchecked")
+    private <T> JsonReader<T> untypedReader(JavaType type) {
+        if (this.canonicalMapper == null || !JsonKit.isUntyped(type)) {
+            return this.reader(type);
+        }
+        return (JsonReader<T>) this.canonicalReaders.computeIfAbsent(type,
+                key -> new JsonReader<>(key, this.canonicalMapper.readerFor(key)));
+    }
+
+    /**
+     * 类型是否为Object，或键、元素均为Object的Map、Collection（可嵌套）
+     */
+    private static boolean isUntyped(JavaType type) {
+        if (type.isContainerType() && !type.isArrayType()) {
+            JavaType keyType = type.getKeyType();
+            return (keyType == null || keyType.hasRawClass(Object.class) || keyType.hasRawClass(String.class))
+                    && JsonKit.isUntyped(type.getContentType());
+        }
+        return type.hasRawClass(Object.class);
+    }
+
+    /**
+     * 获取指定类型的JSON写入器，写入器在首次获取时构建并缓存，可由调用方长期持有并在多个线程中共享
+     * @param clazz 写入对象类型
+     * @param <T> 泛型定义
+     * @return 指定类型的JSON写入器
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonWriter<T> writer(Class<T> clazz) {
+        return (JsonWriter<T>) this.writers.computeIfAbsent(clazz, key -> {
+            JavaType type = this.objectMapper.constructType(key);
+            return new JsonWriter<>(type, this.objectMapper.writerFor(type), this.bufferPool);
+        });
+    }
+
+    /**
+     * 获取相同配置下指定数据格式的Json工具箱，用于按次调用切换数据格式，例如：{@code jsonKit.format(JsonFormatEnum.SMILE).writeAsBytes(user)}。
+     * 各数据格式的Json工具箱在首次获取时创建并缓存
+     * @param format 数据格式
+     * @return 指定数据格式的Json工具箱
+     * @throws JsonParseException 未引入数据格式依赖时抛出异常
+     */
+    public JsonKit format(JsonFormatEnum format) throws JsonParseException {
+        if (format == this.format) {
+            return this;
         }
-        return result;
+        return this.formatKits.computeIfAbsent(format, key -> new JsonKit(this.builder, key, this.formatKits));
+    }
+
+    /**
+     * 获取序列化输出缓冲池，可用于查看借出、命中与丢弃次数
+     * @return 序列化输出缓冲池，未通过{@link JsonKitBuilder#bufferPool}开启复用时返回null
+     */
+    public JsonBufferPool getBufferPool() {
+        return this.bufferPool;
+    }
+
+    /**
+     * 获取序列化缓存，可用于主动失效条目、监听条目移除及查看命中统计
+     * @return 序列化缓存，未通过{@link JsonKitBuilder#writeCache(int, long)}开启时返回null
+     */
+    public JsonWriteCache getWriteCache() {
+        return this.writeCache;
+    }
+
+    /**
+     * 获取当前Json工具箱的数据格式
+     * @return 数据格式
+     */
+    public JsonFormatEnum getFormat() {
+        return this.format;
+    }
+
+    /**
+     * 是否已通过{@link JsonKitBuilder#afterburner(boolean)}启用Afterburner字节码加速
+     * @return 已启用返回true，Afterburner模块无法加载而回退为反射方式时返回false
+     */
+    public boolean isAccelerated() {
+        return this.accelerated;
     }
 
     /**
@@ -197,6 +999,149 @@ public class JsonKit {
      * @return 结果集合类型
      */
     public JavaType getCollectionType(Class<? extends Collection> collectionClazz, Class<?> clazz) {
-        return this.objectMapper.getTypeFactory().constructParametricType(collectionClazz, clazz);
+        return this.collectionTypes.computeIfAbsent(collectionClazz, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(clazz, key -> this.objectMapper.getTypeFactory().constructParametricType(collectionClazz, key));
+    }
+
+    /**
+     * 创建多个路径的JSON局部提取器，路径上的值按Object类型绑定
+     * @param paths JSON Pointer路径
+     * @return JSON局部提取器
+     */
+    private JsonPointerExtractor extractor(String... paths) {
+        List<JsonReader<?>> readers = new ArrayList<>(paths.length);
+        JsonReader<Object> reader = this.reader(Object.class);
+        for (int i = 0; i < paths.length; i++) {
+            readers.add(reader);
+        }
+        return new JsonPointerExtractor(Arrays.asList(paths), readers);
+    }
+
+    /**
+     * 使用局部提取器提取值，完成后关闭解析器
+     * @param parser JSON解析器
+     * @param extractor JSON局部提取器
+     * @return 提取结果
+     * @throws JsonParseException JSON解析异常
+     */
+    private Map<String, Object> extract(JsonParser parser, JsonPointerExtractor extractor) throws JsonParseException {
+        try (JsonParser closeable = parser) {
+            return extractor.extract(closeable);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON局部提取，关闭数据流时发生异常!", e);
+        }
+    }
+
+    /**
+     * 创建JSON字符串的解析器
+     * @param json JSON字符串
+     * @return JSON解析器
+     * @throws JsonParseException JSON解析异常
+     */
+    private JsonParser createParser(String json) throws JsonParseException {
+        JsonParser parser;
+        try {
+            parser = this.objectMapper.getFactory().createParser(json);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON字符串创建解析器，时发生异常!", e);
+        }
+        return parser;
+    }
+
+    /**
+     * 创建JSON文件流的解析器
+     * @param inputStream JSON文件流
+     * @return JSON解析器
+     * @throws JsonParseException JSON解析异常
+     */
+    private JsonParser createParser(InputStream inputStream) throws JsonParseException {
+        JsonParser parser;
+        try {
+            parser = this.objectMapper.getFactory().createParser(inputStream);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON文件流创建解析器，时发生异常!", e);
+        }
+        return parser;
+    }
+
+    /**
+     * 将字节写入输出流并刷新
+     * @param bytes 字节数组
+     * @param outputStream 输出流
+     * @throws JsonParseException 写入输出流发生异常
+     */
+    private void writeBytes(byte[] bytes, OutputStream outputStream) throws JsonParseException {
+        try {
+            outputStream.write(bytes);
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new JsonParseException("缓存的JSON写入输出流发生异常", e);
+        }
+    }
+
+    /**
+     * 校验当前数据格式支持字符串形式的读写
+     * @throws JsonParseException 二进制数据格式抛出异常
+     */
+    private void assertTextFormat() throws JsonParseException {
+        if (this.format.isBinary()) {
+            throw new JsonParseException(this.format + "为二进制数据格式，不支持字符串形式的读写，请使用字节数组或数据流的读写方法");
+        }
+    }
+
+    /**
+     * 创建指定数据格式的JsonFactory
+     * @param format 数据格式
+     * @return JsonFactory
+     * @throws JsonParseException 未引入数据格式依赖时抛出异常
+     */
+    private static JsonFactory createJsonFactory(JsonFormatEnum format) throws JsonParseException {
+        if (format == JsonFormatEnum.JSON) {
+            return new JsonFactory();
+        }
+        try {
+            Class<?> factoryClass = Class.forName(format.getFactoryClassName(), true, JsonKit.class.getClassLoader());
+            return (JsonFactory) factoryClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            throw new JsonParseException("创建" + format + "数据格式解析器失败，请确认已引入对应的Jackson数据格式依赖", e);
+        }
+    }
+
+    /**
+     * 按ObjectMapper使用的JsonFactory确定数据格式，无法识别时视为JSON文本格式
+     * @param objectMapper ObjectMapper
+     * @return 数据格式
+     */
+    private static JsonFormatEnum detectFormat(ObjectMapper objectMapper) {
+        String factoryClassName = objectMapper.getFactory().getClass().getName();
+        for (JsonFormatEnum format : JsonFormatEnum.values()) {
+            if (format.getFactoryClassName().equals(factoryClassName)) {
+                return format;
+            }
+        }
+        return JsonFormatEnum.JSON;
+    }
+
+    /**
+     * 按对象的运行时类型获取JSON写入器，缓存已达上限且该类型尚未缓存时，使用按运行时类型查找序列化器的Object类型写入器
+     * @param object 待写入的对象
+     * @return JSON写入器
+     */
+    @SuppressWarnings("unchecked")
+    private JsonWriter<Object> writerFor(Object object) {
+        Class<?> clazz = object == null ? Object.class : object.getClass();
+        JsonWriter<?> writer = this.writers.get(clazz);
+        if (writer == null) {
+            writer = this.writers.size() < MAX_RUNTIME_WRITERS ? this.writer(clazz) : this.writer(Object.class);
+        }
+        return (JsonWriter<Object>) writer;
+    }
+
+    /**
+     * 共享Json工具箱的延迟初始化持有类
+     */
+    private static class SharedHolder {
+
+        private static final JsonKit INSTANCE = new JsonKit();
     }
 }
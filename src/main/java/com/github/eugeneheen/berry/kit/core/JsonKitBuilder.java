@@ -0,0 +1,271 @@
+package com.github.eugeneheen.berry.kit.core;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eugeneheen.berry.kit.core.json.JsonBufferPool;
+import com.github.eugeneheen.berry.kit.core.json.JsonCanonicalModule;
+import com.github.eugeneheen.berry.kit.core.json.JsonCanonicalTable;
+import com.github.eugeneheen.berry.kit.core.json.JsonWriteCache;
+import com.github.eugeneheen.berry.kit.enumeration.JsonBufferPoolEnum;
+import com.github.eugeneheen.berry.kit.enumeration.JsonFormatEnum;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+/**
+ * <p>Json工具箱构造器，用于创建带有可选特性的{@link JsonKit}，未开启任何特性时与{@code new JsonKit()}一致。</p>
+ * <pre>
+ * JsonKit jsonKit = JsonKitBuilder.newJsonKitBuilder().afterburner(true).build();
+ * </pre>
+ *
+ * @author Eugene
+ */
+public class JsonKitBuilder {
+
+    /**
+     * Jackson Afterburner模块类名
+     */
+    public static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    /**
+     * 是否启用Afterburner字节码加速
+     */
+    private boolean afterburner;
+
+    /**
+     * 数据格式
+     */
+    private JsonFormatEnum format = JsonFormatEnum.JSON;
+
+    /**
+     * 序列化输出缓冲的复用策略
+     */
+    private JsonBufferPoolEnum bufferPool = JsonBufferPoolEnum.NONE;
+
+    /**
+     * 全局共享输出缓冲数量上限
+     */
+    private int bufferPoolCapacity = JsonBufferPool.DEFAULT_CAPACITY;
+
+    /**
+     * 输出缓冲最大保留大小
+     */
+    private int maxBufferSize = JsonBufferPool.DEFAULT_MAX_BUFFER_SIZE;
+
+    /**
+     * 是否规范化Map、List结果中的字符串与整数
+     */
+    private boolean canonicalize;
+
+    /**
+     * 规范化表的槽位数量
+     */
+    private int canonicalCapacity = JsonCanonicalTable.DEFAULT_CAPACITY;
+
+    /**
+     * 参与规范化的字符串最大长度
+     */
+    private int canonicalMaxLength = JsonCanonicalTable.DEFAULT_MAX_LENGTH;
+
+    /**
+     * 序列化缓存的条目数量上限，为0时不开启序列化缓存
+     */
+    private int writeCacheEntries;
+
+    /**
+     * 序列化缓存的总字节数上限
+     */
+    private long writeCacheWeight;
+
+    private JsonKitBuilder() {
+
+    }
+
+    private JsonKitBuilder(JsonKitBuilder builder) {
+        this.afterburner = builder.afterburner;
+        this.format = builder.format;
+        this.bufferPool = builder.bufferPool;
+        this.bufferPoolCapacity = builder.bufferPoolCapacity;
+        this.maxBufferSize = builder.maxBufferSize;
+        this.canonicalize = builder.canonicalize;
+        this.canonicalCapacity = builder.canonicalCapacity;
+        this.canonicalMaxLength = builder.canonicalMaxLength;
+        this.writeCacheEntries = builder.writeCacheEntries;
+        this.writeCacheWeight = builder.writeCacheWeight;
+    }
+
+    public static JsonKitBuilder newJsonKitBuilder() {
+        return new JsonKitBuilder();
+    }
+
+    /**
+     * <p>启用Afterburner字节码加速。开启后在运行时为POJO生成属性访问器与构造器调用的字节码，替代反射调用，提升序列化与反序列化吞吐量。</p>
+     * <p>需要在classpath中引入com.fasterxml.jackson.module:jackson-module-afterburner，未引入或模块无法加载时自动回退为反射方式，
+     * 可通过{@link JsonKit#isAccelerated()}确认是否生效。对于无法生成字节码的属性（例如private字段、非public类），Afterburner同样逐个回退为反射访问。</p>
+     *
+     * @param afterburner 是否启用
+     * @return 构造器
+     */
+    public JsonKitBuilder afterburner(boolean afterburner) {
+        this.afterburner = afterburner;
+        return this;
+    }
+
+    /**
+     * <p>指定数据格式，默认为{@link JsonFormatEnum#JSON}。Smile、CBOR等二进制格式与JSON共用相同的POJO注解，可显著减小报文体积、降低解析耗时。</p>
+     * <p>二进制格式需要在classpath中引入对应的Jackson数据格式依赖，且只能使用字节数组或数据流的读写方法。</p>
+     *
+     * @param format 数据格式
+     * @return 构造器
+     */
+    public JsonKitBuilder format(JsonFormatEnum format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * <p>指定序列化输出缓冲的复用策略，默认为{@link JsonBufferPoolEnum#NONE}，由Jackson按次分配输出缓冲。</p>
+     * <p>开启复用后，{@link JsonKit#write(Object)}使用池中的字符输出缓冲，降低大报文序列化的内存分配量；
+     * {@link JsonKit#writeAsBytes(Object)}始终由Jackson复用其内部缓冲，不经过缓冲池。
+     * 虚拟线程或线程数量不固定时使用{@link JsonBufferPoolEnum#SHARED}，复用效果可通过{@link JsonKit#getBufferPool()}的统计数据确认。</p>
+     *
+     * @param bufferPool 复用策略
+     * @return 构造器
+     */
+    public JsonKitBuilder bufferPool(JsonBufferPoolEnum bufferPool) {
+        this.bufferPool = bufferPool;
+        return this;
+    }
+
+    /**
+     * 指定序列化输出缓冲的复用策略及容量
+     *
+     * @param bufferPool 复用策略
+     * @param capacity 全局共享输出缓冲数量上限，仅{@link JsonBufferPoolEnum#SHARED}策略有效，默认为处理器数量的4倍
+     * @param maxBufferSize 输出缓冲最大保留大小，单位为字符，容量超过时归还后丢弃，默认为256K
+     * @return 构造器
+     */
+    public JsonKitBuilder bufferPool(JsonBufferPoolEnum bufferPool, int capacity, int maxBufferSize) {
+        this.bufferPool = bufferPool;
+        this.bufferPoolCapacity = capacity;
+        this.maxBufferSize = maxBufferSize;
+        return this;
+    }
+
+    /**
+     * <p>规范化readAsMap，以及元素为Map、List的readAsCollection结果中的字符串与整数，适用于读取大量结构相同的记录并长期持有的场景。</p>
+     * <p>开启后，字段名称及状态、类型等重复出现的短字符串值共用同一实例，int范围内的整数统一为共用实例的{@link Integer}，
+     * Map、List按实际元素数量分配容量，结果类型与未开启时一致。规范化使用独立的ObjectMapper，
+     * read、元素为POJO的readAsCollection等其他读取方法不受影响，POJO中Object、Map类型的属性同样按默认方式读取。</p>
+     *
+     * @param canonicalize 是否开启
+     * @return 构造器
+     */
+    public JsonKitBuilder canonicalize(boolean canonicalize) {
+        this.canonicalize = canonicalize;
+        return this;
+    }
+
+    /**
+     * 开启Map、List结果的规范化，并指定规范化表的容量
+     *
+     * @param capacity 规范化表的槽位数量，向上取整为2的幂，默认为4096
+     * @param maxLength 参与规范化的字符串最大长度，默认为32
+     * @return 构造器
+     */
+    public JsonKitBuilder canonicalize(int capacity, int maxLength) {
+        this.canonicalize = true;
+        this.canonicalCapacity = capacity;
+        this.canonicalMaxLength = maxLength;
+        return this;
+    }
+
+    /**
+     * <p>开启序列化缓存，{@link JsonKit#writeAsBytesCached(Object)}等方法按对象身份或版本号缓存序列化后的字节，
+     * 对象未变化时直接返回缓存的字节，适用于在两次变更之间被反复序列化的配置快照、商品目录等对象。</p>
+     * <p>条目数量或总字节数超过上限时按最近最少使用淘汰，可通过{@link JsonKit#getWriteCache()}主动失效条目、监听条目移除并查看命中统计。</p>
+     *
+     * @param maxEntries 条目数量上限
+     * @param maxWeight 序列化结果的总字节数上限，单个结果超过此值时不缓存
+     * @return 构造器
+     */
+    public JsonKitBuilder writeCache(int maxEntries, long maxWeight) {
+        this.writeCacheEntries = maxEntries;
+        this.writeCacheWeight = maxWeight;
+        return this;
+    }
+
+    /**
+     * 创建Json工具箱
+     *
+     * @return Json工具箱
+     * @throws JsonParseException 未引入数据格式依赖时抛出异常
+     */
+    public JsonKit build() throws JsonParseException {
+        return new JsonKit(new JsonKitBuilder(this), this.format, null);
+    }
+
+    /**
+     * 按构造器配置为ObjectMapper注册模块
+     *
+     * @param objectMapper ObjectMapper
+     * @return 是否已启用Afterburner字节码加速
+     */
+    boolean configure(ObjectMapper objectMapper) {
+        return this.afterburner && registerModule(objectMapper, AFTERBURNER_MODULE);
+    }
+
+    /**
+     * 按构造器配置创建读取Map、List结果的规范化ObjectMapper，复制已配置的ObjectMapper后注册规范化模块，不影响原ObjectMapper
+     *
+     * @param objectMapper 已配置的ObjectMapper
+     * @return 规范化ObjectMapper，未开启规范化时返回null
+     */
+    ObjectMapper createCanonicalMapper(ObjectMapper objectMapper) {
+        if (!this.canonicalize) {
+            return null;
+        }
+        ObjectMapper canonicalMapper = objectMapper.copy();
+        canonicalMapper.registerModule(new JsonCanonicalModule(new JsonCanonicalTable(this.canonicalCapacity, this.canonicalMaxLength)));
+        return canonicalMapper;
+    }
+
+    /**
+     * 按构造器配置创建序列化输出缓冲池
+     *
+     * @return 序列化输出缓冲池，不复用时返回null
+     */
+    JsonBufferPool createBufferPool() {
+        if (this.bufferPool == JsonBufferPoolEnum.NONE) {
+            return null;
+        }
+        return new JsonBufferPool(this.bufferPool, this.bufferPoolCapacity, this.maxBufferSize);
+    }
+
+    /**
+     * 按构造器配置创建序列化缓存
+     *
+     * @return 序列化缓存，未开启时返回null
+     */
+    JsonWriteCache createWriteCache() {
+        if (this.writeCacheEntries <= 0) {
+            return null;
+        }
+        return new JsonWriteCache(this.writeCacheEntries, this.writeCacheWeight);
+    }
+
+    /**
+     * 按类名加载并注册Jackson模块，模块不存在或无法实例化时不注册
+     *
+     * @param objectMapper ObjectMapper
+     * @param moduleClassName 模块类名
+     * @return 注册成功返回true
+     */
+    private static boolean registerModule(ObjectMapper objectMapper, String moduleClassName) {
+        try {
+            Class<?> moduleClass = Class.forName(moduleClassName, true, JsonKitBuilder.class.getClassLoader());
+            objectMapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+            return true;
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return false;
+        }
+    }
+}
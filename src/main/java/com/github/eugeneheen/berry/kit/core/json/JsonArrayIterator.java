@@ -0,0 +1,126 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>JSON数组流式迭代器，逐个解析顶层JSON数组中的元素，任意时刻只持有一个已解析的元素，内存占用与数组长度无关。</p>
+ * <p>迭代结束、解析异常或调用{@link JsonArrayIterator#close()}时，关闭底层的JsonParser及其数据流。</p>
+ *
+ * @param <T> 数组元素类型
+ * @author Eugene
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * 顶层JSON数组的解析器
+     */
+    private final JsonParser parser;
+
+    /**
+     * 数组元素的读取器
+     */
+    private final JsonReader<T> reader;
+
+    /**
+     * 已预读但尚未返回的元素
+     */
+    private T next;
+
+    /**
+     * 是否存在已预读的元素
+     */
+    private boolean fetched;
+
+    /**
+     * 是否已关闭
+     */
+    private boolean closed;
+
+    /**
+     * 构造方法，解析器必须位于顶层JSON数组开始之前
+     *
+     * @param parser JSON解析器
+     * @param reader 数组元素的读取器
+     * @throws JsonParseException 数据不是JSON数组时抛出异常
+     */
+    public JsonArrayIterator(JsonParser parser, JsonReader<T> reader) throws JsonParseException {
+        this.parser = parser;
+        this.reader = reader;
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                this.close();
+            } else if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException("JSON流式解析，顶层数据不是JSON数组：" + token);
+            }
+        } catch (IOException e) {
+            this.close();
+            throw new JsonParseException("JSON流式解析，读取JSON数组开始标记时发生异常!", e);
+        } catch (JsonParseException e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws JsonParseException {
+        if (this.fetched) {
+            return true;
+        }
+        if (this.closed) {
+            return false;
+        }
+        try {
+            JsonToken token = this.parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                this.close();
+                return false;
+            }
+            this.next = this.reader.read(this.parser);
+            this.fetched = true;
+            return true;
+        } catch (IOException e) {
+            this.close();
+            throw new JsonParseException("JSON流式解析，读取数组元素时发生异常!", e);
+        } catch (JsonParseException e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public T next() throws JsonParseException {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T t = this.next;
+        this.next = null;
+        this.fetched = false;
+        return t;
+    }
+
+    /**
+     * 关闭解析器及底层数据流，可重复调用
+     *
+     * @throws JsonParseException 关闭数据流发生异常
+     */
+    @Override
+    public void close() throws JsonParseException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            this.parser.close();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON流式解析，关闭数据流时发生异常!", e);
+        }
+    }
+}
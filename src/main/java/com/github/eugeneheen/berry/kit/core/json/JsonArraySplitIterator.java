@@ -0,0 +1,431 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>顶层JSON数组的并行解析迭代器，适用于单个超大JSON数组文件。</p>
+ * <p>在当前线程对原始字节做结构扫描，只识别字符串、转义与括号嵌套，不做词法解析，据此找出顶层元素的边界，
+ * 顶层元素之间缺少逗号时扫描即报错，保证每个元素恰好是一个JSON值；
+ * 元素的字节按批复制后提交至ForkJoinPool并行绑定，同一批次的元素共用一个解析器，返回顺序与数组中的元素顺序一致。
+ * 扫描的速度远高于绑定，吞吐量随线程池的并行度近似线性增长；同时在途的批次数量有上限，内存占用与文件大小无关。</p>
+ * <p>输入必须是UTF-8编码的JSON数组。迭代结束、解析异常或调用{@link JsonArraySplitIterator#close()}时，关闭底层的数据流。</p>
+ *
+ * @param <T> 元素类型
+ * @author Eugene
+ */
+public class JsonArraySplitIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * 每个解析批次的最大元素数量
+     */
+    public static final int BATCH_SIZE = 512;
+
+    /**
+     * 每个解析批次的字节数达到此值时提交，单个元素超过此值时独占一个批次
+     */
+    public static final int BATCH_BYTES = 1024 * 1024;
+
+    /**
+     * 每次从数据流读取的字节数
+     */
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * UTF-8字节顺序标记
+     */
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /**
+     * 数据流
+     */
+    private final InputStream inputStream;
+
+    /**
+     * 创建批次解析器的JsonFactory
+     */
+    private final JsonFactory factory;
+
+    /**
+     * 元素的读取器
+     */
+    private final JsonReader<T> jsonReader;
+
+    /**
+     * 并行绑定使用的线程池
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * 同时在途的批次数量上限
+     */
+    private final int window;
+
+    /**
+     * 按元素顺序排列的在途批次
+     */
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+
+    /**
+     * 数据流读取缓冲
+     */
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+
+    /**
+     * 当前批次中尚未返回的元素
+     */
+    private Iterator<T> batch = Collections.emptyIterator();
+
+    /**
+     * 正在收集的批次
+     */
+    private Batch collecting;
+
+    /**
+     * 已扫描出的元素数量
+     */
+    private long count;
+
+    /**
+     * 已读取的字节数
+     */
+    private long position;
+
+    /**
+     * 括号嵌套深度，位于顶层数组内且不在元素中时为1
+     */
+    private int depth;
+
+    /**
+     * 是否位于字符串内
+     */
+    private boolean inString;
+
+    /**
+     * 字符串内上一个字节是否为转义符
+     */
+    private boolean escape;
+
+    /**
+     * 是否位于元素内
+     */
+    private boolean inElement;
+
+    /**
+     * 当前元素的值是否已结束，已结束后在逗号或结束括号之前只允许空白
+     */
+    private boolean valueEnded;
+
+    /**
+     * 是否已扫描至顶层数组的结束括号
+     */
+    private boolean done;
+
+    /**
+     * 是否已读取至数据流末尾
+     */
+    private boolean eof;
+
+    /**
+     * 是否已关闭
+     */
+    private boolean closed;
+
+    /**
+     * 构造方法
+     *
+     * @param inputStream UTF-8编码的JSON数组数据流
+     * @param factory JSON格式的JsonFactory
+     * @param jsonReader 元素的读取器
+     * @param pool 并行绑定使用的线程池
+     */
+    public JsonArraySplitIterator(InputStream inputStream, JsonFactory factory, JsonReader<T> jsonReader, ForkJoinPool pool) {
+        this.inputStream = inputStream;
+        this.factory = factory;
+        this.jsonReader = jsonReader;
+        this.pool = pool;
+        this.window = pool.getParallelism() * 2;
+        this.collecting = new Batch(0);
+    }
+
+    @Override
+    public boolean hasNext() throws JsonParseException {
+        while (!this.batch.hasNext()) {
+            if (this.closed) {
+                return false;
+            }
+            try {
+                this.fill();
+                CompletableFuture<List<T>> future = this.pending.poll();
+                if (future == null) {
+                    this.close();
+                    return false;
+                }
+                this.batch = future.join().iterator();
+            } catch (CompletionException e) {
+                this.close();
+                if (e.getCause() instanceof JsonParseException) {
+                    throw (JsonParseException) e.getCause();
+                }
+                throw new JsonParseException("JSON数组并行解析，绑定元素时发生异常!", e.getCause());
+            } catch (JsonParseException e) {
+                this.close();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() throws JsonParseException {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.batch.next();
+    }
+
+    /**
+     * 关闭数据流并取消尚未开始的批次，可重复调用
+     *
+     * @throws JsonParseException 关闭数据流发生异常
+     */
+    @Override
+    public void close() throws JsonParseException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.batch = Collections.emptyIterator();
+        this.collecting = null;
+        for (CompletableFuture<List<T>> future : this.pending) {
+            future.cancel(false);
+        }
+        this.pending.clear();
+        try {
+            this.inputStream.close();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON数组并行解析，关闭数据流时发生异常!", e);
+        }
+    }
+
+    /**
+     * 扫描数据流并提交批次，直至在途批次数量达到上限或读取至数据流末尾
+     *
+     * @throws JsonParseException 读取数据流发生异常，或JSON数组结构错误
+     */
+    private void fill() throws JsonParseException {
+        while (!this.eof && this.pending.size() < this.window) {
+            int length;
+            try {
+                length = this.inputStream.read(this.chunk);
+            } catch (IOException e) {
+                throw new JsonParseException("JSON数组并行解析，读取数据流时发生异常!", e);
+            }
+            if (length < 0) {
+                this.eof = true;
+                if (!this.done) {
+                    throw new JsonParseException("JSON数组并行解析，数据已结束但JSON数组不完整");
+                }
+                this.submit();
+                break;
+            }
+            this.scan(length);
+            this.position += length;
+        }
+    }
+
+    /**
+     * 扫描读取缓冲中的字节，识别顶层元素的边界并收集元素的字节
+     *
+     * @param length 读取缓冲中的有效字节数
+     * @throws JsonParseException JSON数组结构错误
+     */
+    private void scan(int length) throws JsonParseException {
+        byte[] bytes = this.chunk;
+        int segment = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (this.inString) {
+                if (this.escape) {
+                    this.escape = false;
+                } else if (b == '\\') {
+                    this.escape = true;
+                } else if (b == '"') {
+                    this.inString = false;
+                    this.valueEnded = this.depth == 1;
+                }
+                continue;
+            }
+            if (!this.inElement) {
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                if (this.done) {
+                    throw this.error(i, "JSON数组结束后存在多余的内容");
+                }
+                if (this.depth == 0) {
+                    if (this.position == 0 && i < UTF8_BOM.length && b == UTF8_BOM[i]) {
+                        continue;
+                    }
+                    if (b != '[') {
+                        throw this.error(i, "内容不是JSON数组");
+                    }
+                    this.depth = 1;
+                    continue;
+                }
+                if (b == ']' && this.count == 0) {
+                    this.done = true;
+                    continue;
+                }
+                if (b == ',' || b == ']' || b == '}') {
+                    throw this.error(i, "缺少数组元素");
+                }
+                this.inElement = true;
+                segment = i;
+            } else if (this.depth == 1 && b != ',' && b != ']') {
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    this.valueEnded = true;
+                    continue;
+                }
+                if (this.valueEnded || b == '"' || b == '{' || b == '[') {
+                    throw this.error(i, "数组元素之间缺少逗号");
+                }
+            }
+            if (b == '"') {
+                this.inString = true;
+            } else if (b == '{' || b == '[') {
+                this.depth++;
+            } else if (b == '}' || b == ']') {
+                if (this.depth > 1) {
+                    this.depth--;
+                    this.valueEnded = this.depth == 1;
+                } else if (b == ']') {
+                    this.collecting.append(bytes, segment, i - segment);
+                    this.endElement();
+                    this.done = true;
+                } else {
+                    throw this.error(i, "括号不匹配");
+                }
+            } else if (b == ',' && this.depth == 1) {
+                this.collecting.append(bytes, segment, i - segment);
+                this.endElement();
+            }
+        }
+        if (this.inElement) {
+            this.collecting.append(bytes, segment, length - segment);
+        }
+    }
+
+    /**
+     * 结束当前元素，批次已满时提交
+     */
+    private void endElement() {
+        this.inElement = false;
+        this.valueEnded = false;
+        this.collecting.endElement();
+        this.count++;
+        if (this.collecting.size == BATCH_SIZE || this.collecting.length >= BATCH_BYTES) {
+            this.submit();
+        }
+    }
+
+    /**
+     * 提交正在收集的批次
+     */
+    private void submit() {
+        Batch batch = this.collecting;
+        if (batch.size == 0) {
+            return;
+        }
+        this.collecting = new Batch(this.count);
+        this.pending.add(CompletableFuture.supplyAsync(() -> this.decode(batch), this.pool));
+    }
+
+    /**
+     * 绑定一个批次的元素，批次内的元素以换行符分隔，共用同一个解析器
+     *
+     * @param batch 批次
+     * @return 按元素顺序排列的元素
+     * @throws JsonParseException 元素解析异常
+     */
+    private List<T> decode(Batch batch) throws JsonParseException {
+        List<T> values = new ArrayList<>(batch.size);
+        try (JsonParser parser = this.factory.createParser(batch.bytes, 0, batch.length)) {
+            while (values.size() < batch.size) {
+                parser.nextToken();
+                values.add(this.jsonReader.read(parser));
+            }
+        } catch (IOException | JsonParseException e) {
+            throw new JsonParseException("JSON数组并行解析，第" + (batch.firstIndex + values.size() + 1) + "个元素解析时发生异常!", e);
+        }
+        return values;
+    }
+
+    private JsonParseException error(int index, String message) {
+        return new JsonParseException("JSON数组并行解析，位置：" + (this.position + index) + "，" + message);
+    }
+
+    /**
+     * 一个解析批次，元素的字节连续存放，以换行符分隔
+     */
+    private static final class Batch {
+
+        /**
+         * 第一个元素在数组中的序号，从0开始
+         */
+        private final long firstIndex;
+
+        /**
+         * 元素的字节
+         */
+        private byte[] bytes = new byte[64 * 1024];
+
+        /**
+         * 已收集的字节数
+         */
+        private int length;
+
+        /**
+         * 已结束的元素数量
+         */
+        private int size;
+
+        private Batch(long firstIndex) {
+            this.firstIndex = firstIndex;
+        }
+
+        private void append(byte[] source, int offset, int length) {
+            this.ensureCapacity(length);
+            System.arraycopy(source, offset, this.bytes, this.length, length);
+            this.length += length;
+        }
+
+        private void endElement() {
+            this.ensureCapacity(1);
+            this.bytes[this.length++] = '\n';
+            this.size++;
+        }
+
+        private void ensureCapacity(int length) {
+            if (this.length + length > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + length));
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * <p>非阻塞的增量JSON读取器，基于Jackson的非阻塞解析器，按数据块到达的顺序喂入字节，每解析出一个完整的值即通过回调返回，无需等待整个报文到达。</p>
+ * <p>顶层为JSON数组时逐个返回数组元素；否则逐个返回顶层值，多个顶层值之间以空白字符分隔（例如JSON Lines）。
+ * 未完成的值以标记形式暂存，内存占用与单个值的大小相关，与报文总大小无关。</p>
+ * <p>实例非线程安全，同一实例的{@link JsonAsyncReader#feed(byte[], int, int)}调用需串行执行，例如在异步HTTP客户端的数据回调中调用。</p>
+ *
+ * @param <T> 读取结果类型
+ * @author Eugene
+ */
+public class JsonAsyncReader<T> implements Closeable {
+
+    /**
+     * 非阻塞解析器
+     */
+    private final JsonParser parser;
+
+    /**
+     * 非阻塞解析器的字节输入
+     */
+    private final ByteArrayFeeder feeder;
+
+    /**
+     * 值的读取器
+     */
+    private final JsonReader<T> reader;
+
+    /**
+     * 解析出完整值时的回调
+     */
+    private final Consumer<? super T> consumer;
+
+    /**
+     * 当前未完成的值的标记
+     */
+    private TokenBuffer buffer;
+
+    /**
+     * 当前值的嵌套深度
+     */
+    private int depth;
+
+    /**
+     * 是否位于顶层JSON数组中
+     */
+    private boolean inArray;
+
+    /**
+     * 已返回的值数量
+     */
+    private long count;
+
+    /**
+     * 是否已关闭
+     */
+    private boolean closed;
+
+    /**
+     * 构造方法
+     *
+     * @param parser 尚未喂入任何数据的非阻塞解析器
+     * @param reader 值的读取器
+     * @param consumer 解析出完整值时的回调，在调用{@link JsonAsyncReader#feed(byte[], int, int)}的线程中执行，抛出异常时读取器关闭，异常原样抛出
+     * @throws JsonParseException 解析器不是基于字节数组输入的非阻塞解析器时抛出异常
+     */
+    public JsonAsyncReader(JsonParser parser, JsonReader<T> reader, Consumer<? super T> consumer) throws JsonParseException {
+        if (!(parser.getNonBlockingInputFeeder() instanceof ByteArrayFeeder)) {
+            throw new JsonParseException("JSON增量解析，解析器不支持字节数组形式的非阻塞输入");
+        }
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+        this.consumer = consumer;
+    }
+
+    /**
+     * 喂入一个数据块，并回调其中所有已完整的值。数据块在方法返回后即可复用
+     *
+     * @param bytes 数据块
+     * @throws JsonParseException JSON解析异常
+     */
+    public void feed(byte[] bytes) throws JsonParseException {
+        this.feed(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 喂入数据块中的指定区间，并回调其中所有已完整的值。数据块在方法返回后即可复用
+     *
+     * @param bytes 数据块
+     * @param offset 数据在数据块中的起始位置
+     * @param length 数据的字节长度
+     * @throws JsonParseException JSON解析异常
+     */
+    public void feed(byte[] bytes, int offset, int length) throws JsonParseException {
+        if (this.closed) {
+            throw new JsonParseException("JSON增量解析，读取器已关闭");
+        }
+        try {
+            this.feeder.feedInput(bytes, offset, offset + length);
+        } catch (IOException e) {
+            this.close();
+            throw new JsonParseException("JSON增量解析，喂入数据时发生异常!", e);
+        }
+        this.drain();
+    }
+
+    /**
+     * 标记数据已全部到达，回调剩余的值并关闭读取器
+     *
+     * @throws JsonParseException JSON解析异常，或数据不完整
+     */
+    public void end() throws JsonParseException {
+        if (this.closed) {
+            return;
+        }
+        this.feeder.endOfInput();
+        this.drain();
+        boolean incomplete = this.buffer != null || this.inArray;
+        this.close();
+        if (incomplete) {
+            throw new JsonParseException("JSON增量解析，数据已结束但JSON内容不完整");
+        }
+    }
+
+    /**
+     * 获取已返回的值数量
+     *
+     * @return 已返回的值数量
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * 关闭读取器，丢弃未完成的值，可重复调用
+     *
+     * @throws JsonParseException 关闭解析器发生异常
+     */
+    @Override
+    public void close() throws JsonParseException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.buffer = null;
+        try {
+            this.parser.close();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON增量解析，关闭解析器时发生异常!", e);
+        }
+    }
+
+    /**
+     * 读取当前已喂入数据中的所有完整标记，直至需要更多数据
+     *
+     * @throws JsonParseException JSON解析异常
+     */
+    private void drain() throws JsonParseException {
+        try {
+            JsonToken token;
+            while ((token = this.parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                this.handle(token);
+            }
+        } catch (IOException e) {
+            this.close();
+            throw new JsonParseException("JSON增量解析，读取JSON标记时发生异常!", e);
+        } catch (RuntimeException e) {
+            // 包括回调抛出的异常，解析器停留在值的中间，无法继续读取
+            try {
+                this.close();
+            } catch (JsonParseException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 处理一个标记，值完整时绑定并回调
+     *
+     * @param token 标记
+     * @throws IOException 暂存标记发生异常
+     */
+    private void handle(JsonToken token) throws IOException {
+        if (this.buffer == null) {
+            if (token == JsonToken.START_ARRAY && !this.inArray) {
+                this.inArray = true;
+                return;
+            }
+            if (token == JsonToken.END_ARRAY && this.inArray) {
+                this.inArray = false;
+                return;
+            }
+            this.buffer = new TokenBuffer(this.parser);
+        }
+        this.buffer.copyCurrentEvent(this.parser);
+        if (token.isStructStart()) {
+            this.depth++;
+        } else if (token.isStructEnd()) {
+            this.depth--;
+        }
+        if (this.depth == 0) {
+            TokenBuffer completed = this.buffer;
+            this.buffer = null;
+            T value = this.reader.read(completed.asParser());
+            this.count++;
+            this.consumer.accept(value);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.github.eugeneheen.berry.kit.enumeration.JsonBufferPoolEnum;
+
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>序列化输出缓冲池，为{@link JsonWriter#write(Object)}提供可复用的字符输出缓冲，避免每次序列化重新分配并扩容输出缓冲。</p>
+ * <p>{@link JsonWriter#writeAsBytes(Object)}不经过缓冲池，Jackson的字节输出已复用其内部缓冲，池化不能减少内存分配。</p>
+ * <p>容量超过最大保留大小的输出缓冲在归还时丢弃，避免偶发的大报文长期占用内存。池内统计借出、命中与丢弃次数，可用于评估复用效果。</p>
+ * <p>实例线程安全，通过{@link com.github.eugeneheen.berry.kit.core.JsonKitBuilder#bufferPool(JsonBufferPoolEnum)}配置。</p>
+ *
+ * @author Eugene
+ */
+public class JsonBufferPool {
+
+    /**
+     * 默认的全局共享输出缓冲数量上限
+     */
+    public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 4;
+
+    /**
+     * 默认的输出缓冲最大保留大小，单位为字符
+     */
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * 复用策略
+     */
+    private final JsonBufferPoolEnum strategy;
+
+    /**
+     * 全局共享输出缓冲数量上限
+     */
+    private final int capacity;
+
+    /**
+     * 输出缓冲最大保留大小
+     */
+    private final int maxBufferSize;
+
+    /**
+     * 全局共享的空闲输出缓冲
+     */
+    private final Queue<JsonBuffer> shared = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 全局共享的空闲输出缓冲数量
+     */
+    private final AtomicInteger sharedSize = new AtomicInteger();
+
+    /**
+     * 线程本地的空闲输出缓冲
+     */
+    private final ThreadLocal<JsonBuffer> local = new ThreadLocal<>();
+
+    /**
+     * 借出次数
+     */
+    private final LongAdder acquires = new LongAdder();
+
+    /**
+     * 命中空闲输出缓冲的次数
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * 归还时丢弃的次数
+     */
+    private final LongAdder discards = new LongAdder();
+
+    /**
+     * 构造方法
+     *
+     * @param strategy 复用策略
+     * @param capacity 全局共享输出缓冲数量上限，仅{@link JsonBufferPoolEnum#SHARED}策略有效
+     * @param maxBufferSize 输出缓冲最大保留大小，单位为字符
+     */
+    public JsonBufferPool(JsonBufferPoolEnum strategy, int capacity, int maxBufferSize) {
+        this.strategy = strategy;
+        this.capacity = capacity;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * 借出输出缓冲，没有空闲输出缓冲时创建新的输出缓冲
+     *
+     * @return 输出缓冲
+     */
+    JsonBuffer acquire() {
+        this.acquires.increment();
+        JsonBuffer buffer = null;
+        if (this.strategy == JsonBufferPoolEnum.THREAD_LOCAL) {
+            buffer = this.local.get();
+            if (buffer != null) {
+                this.local.set(null);
+            }
+        } else if (this.strategy == JsonBufferPoolEnum.SHARED) {
+            buffer = this.shared.poll();
+            if (buffer != null) {
+                this.sharedSize.decrementAndGet();
+            }
+        }
+        if (buffer == null) {
+            return new JsonBuffer(Math.min(JsonBuffer.INITIAL_CAPACITY, this.maxBufferSize));
+        }
+        this.hits.increment();
+        return buffer;
+    }
+
+    /**
+     * 归还输出缓冲，容量超过最大保留大小或池已满时丢弃
+     *
+     * @param buffer 输出缓冲
+     */
+    void release(JsonBuffer buffer) {
+        if (!buffer.reset(this.maxBufferSize)) {
+            this.discards.increment();
+            return;
+        }
+        if (this.strategy == JsonBufferPoolEnum.THREAD_LOCAL) {
+            this.local.set(buffer);
+        } else if (this.strategy == JsonBufferPoolEnum.SHARED && this.sharedSize.incrementAndGet() <= this.capacity) {
+            this.shared.offer(buffer);
+        } else {
+            if (this.strategy == JsonBufferPoolEnum.SHARED) {
+                this.sharedSize.decrementAndGet();
+            }
+            this.discards.increment();
+        }
+    }
+
+    /**
+     * 获取复用策略
+     *
+     * @return 复用策略
+     */
+    public JsonBufferPoolEnum getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * 获取借出次数
+     *
+     * @return 借出次数
+     */
+    public long getAcquireCount() {
+        return this.acquires.sum();
+    }
+
+    /**
+     * 获取命中空闲输出缓冲的次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * 获取未命中而新建输出缓冲的次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return this.getAcquireCount() - this.getHitCount();
+    }
+
+    /**
+     * 获取归还时因超过最大保留大小或池已满而丢弃的次数
+     *
+     * @return 丢弃次数
+     */
+    public long getDiscardCount() {
+        return this.discards.sum();
+    }
+
+    /**
+     * 获取命中率，尚未借出时返回0
+     *
+     * @return 命中率，取值范围0至1
+     */
+    public double getHitRate() {
+        long acquireCount = this.getAcquireCount();
+        return acquireCount == 0 ? 0 : (double) this.getHitCount() / acquireCount;
+    }
+
+    /**
+     * 可复用的字符输出缓冲，与{@link java.io.CharArrayWriter}相同按需扩容，但可获取实际占用的容量，用于判断归还时是否保留
+     */
+    static final class JsonBuffer extends Writer {
+
+        /**
+         * 初始容量，不超过最大保留大小
+         */
+        private static final int INITIAL_CAPACITY = 1024;
+
+        /**
+         * 字符数组
+         */
+        private char[] chars;
+
+        /**
+         * 已写入的字符数
+         */
+        private int size;
+
+        private JsonBuffer(int capacity) {
+            this.chars = new char[capacity];
+        }
+
+        @Override
+        public void write(int c) {
+            this.ensureCapacity(1);
+            this.chars[this.size++] = (char) c;
+        }
+
+        @Override
+        public void write(char[] source, int offset, int length) {
+            this.ensureCapacity(length);
+            System.arraycopy(source, offset, this.chars, this.size, length);
+            this.size += length;
+        }
+
+        @Override
+        public void write(String source, int offset, int length) {
+            this.ensureCapacity(length);
+            source.getChars(offset, offset + length, this.chars, this.size);
+            this.size += length;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return new String(this.chars, 0, this.size);
+        }
+
+        private void ensureCapacity(int length) {
+            if (this.size + length > this.chars.length) {
+                this.chars = Arrays.copyOf(this.chars, Math.max(this.chars.length * 2, this.size + length));
+            }
+        }
+
+        /**
+         * 清空输出缓冲
+         *
+         * @param maxBufferSize 最大保留大小
+         * @return 字符数组的容量未超过最大保留大小时返回true
+         */
+        private boolean reset(int maxBufferSize) {
+            this.size = 0;
+            return this.chars.length <= maxBufferSize;
+        }
+    }
+}
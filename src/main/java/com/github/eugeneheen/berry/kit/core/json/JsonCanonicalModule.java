@@ -0,0 +1,161 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>规范化Jackson模块，替换{@code Object}类型与Map字符串键的默认反序列化，以降低大量Map、List结果的堆内存占用：</p>
+ * <ul>
+ *     <li>字段名称与短字符串值通过{@link JsonCanonicalTable}共用实例，命中时不创建新的字符串；</li>
+ *     <li>int范围内的整数统一为{@link Integer}，并通过{@link JsonCanonicalTable}共用实例；</li>
+ *     <li>Map按实际字段数量分配容量，List裁剪至实际元素数量。</li>
+ * </ul>
+ * <p>结果的类型与默认反序列化一致（{@link LinkedHashMap}、{@link ArrayList}、{@link String}、{@link Integer}等），调用方无需修改。
+ * 模块对注册的ObjectMapper全局生效，包括POJO中Object、Map类型的属性，并会关闭Map字符串键的快速路径，
+ * 因此Json工具箱只将其注册在读取Map、List结果的独立ObjectMapper上。</p>
+ *
+ * @author Eugene
+ */
+public class JsonCanonicalModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 构造方法
+     *
+     * @param table 规范化表，可在多个模块间共享
+     */
+    public JsonCanonicalModule(JsonCanonicalTable table) {
+        super(JsonCanonicalModule.class.getSimpleName());
+        this.addDeserializer(Object.class, new CanonicalDeserializer(table));
+        this.addKeyDeserializer(String.class, new CanonicalKeyDeserializer(table));
+    }
+
+    /**
+     * {@code Object}类型的规范化反序列化器
+     */
+    private static final class CanonicalDeserializer extends StdDeserializer<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient JsonCanonicalTable table;
+
+        private CanonicalDeserializer(JsonCanonicalTable table) {
+            super(Object.class);
+            this.table = table;
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            switch (p.getCurrentTokenId()) {
+                case JsonTokenId.ID_START_OBJECT:
+                case JsonTokenId.ID_FIELD_NAME:
+                case JsonTokenId.ID_END_OBJECT:
+                    return this.readObject(p, ctxt);
+                case JsonTokenId.ID_START_ARRAY:
+                    return this.readArray(p, ctxt);
+                case JsonTokenId.ID_STRING:
+                    return this.table.canonicalize(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                case JsonTokenId.ID_NUMBER_INT:
+                    if (ctxt.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+                        return p.getBigIntegerValue();
+                    }
+                    if (ctxt.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)) {
+                        return p.getLongValue();
+                    }
+                    if (p.getNumberType() == JsonParser.NumberType.INT) {
+                        return this.table.canonicalize(p.getIntValue());
+                    }
+                    return p.getNumberValue();
+                case JsonTokenId.ID_NUMBER_FLOAT:
+                    return ctxt.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS) ? p.getDecimalValue() : p.getNumberValue();
+                case JsonTokenId.ID_TRUE:
+                    return Boolean.TRUE;
+                case JsonTokenId.ID_FALSE:
+                    return Boolean.FALSE;
+                case JsonTokenId.ID_NULL:
+                    return null;
+                case JsonTokenId.ID_EMBEDDED_OBJECT:
+                    return p.getEmbeddedObject();
+                default:
+                    return ctxt.handleUnexpectedToken(Object.class, p);
+            }
+        }
+
+        @Override
+        public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+            return typeDeserializer.deserializeTypedFromAny(p, ctxt);
+        }
+
+        /**
+         * 读取JSON对象，字段先暂存后按实际数量创建Map
+         */
+        private Map<String, Object> readObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String name;
+            if (p.isExpectedStartObjectToken()) {
+                name = p.nextFieldName();
+            } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+                name = p.getCurrentName();
+            } else {
+                name = null;
+            }
+            Object[] fields = new Object[16];
+            int size = 0;
+            for (; name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                if (size == fields.length) {
+                    fields = Arrays.copyOf(fields, size * 2);
+                }
+                fields[size++] = this.table.canonicalize(name);
+                fields[size++] = this.deserialize(p, ctxt);
+            }
+            Map<String, Object> map = new LinkedHashMap<>(size / 2 * 4 / 3 + 1);
+            for (int i = 0; i < size; i += 2) {
+                map.put((String) fields[i], fields[i + 1]);
+            }
+            return map;
+        }
+
+        /**
+         * 读取JSON数组，结果裁剪至实际元素数量
+         */
+        private ArrayList<Object> readArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+            ArrayList<Object> list = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                list.add(this.deserialize(p, ctxt));
+            }
+            list.trimToSize();
+            return list;
+        }
+    }
+
+    /**
+     * Map字段名称的规范化反序列化器，用于readAsMap等Map结果的顶层字段
+     */
+    private static final class CanonicalKeyDeserializer extends KeyDeserializer {
+
+        private final JsonCanonicalTable table;
+
+        private CanonicalKeyDeserializer(JsonCanonicalTable table) {
+            this.table = table;
+        }
+
+        @Override
+        public Object deserializeKey(String key, DeserializationContext ctxt) {
+            return this.table.canonicalize(key);
+        }
+    }
+}
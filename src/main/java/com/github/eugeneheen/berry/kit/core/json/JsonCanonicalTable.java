@@ -0,0 +1,133 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+/**
+ * <p>有界的规范化表，使相等的短字符串与整数共用同一个实例，降低大量Map、List结果的堆内存占用。</p>
+ * <p>采用直接映射的固定大小数组，按哈希值定位槽位，槽位冲突时新值替换旧值：重复出现的低基数值（字段名称、状态、类型等）长期命中，
+ * 高基数值相互替换而不会无限增长。数组元素的读写是原子的，且缓存的实例不可变，因此无需加锁即可在多个线程中共享。</p>
+ *
+ * @author Eugene
+ */
+public class JsonCanonicalTable {
+
+    /**
+     * 默认槽位数量
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * 默认参与规范化的字符串最大长度
+     */
+    public static final int DEFAULT_MAX_LENGTH = 32;
+
+    /**
+     * 字符串槽位
+     */
+    private final String[] strings;
+
+    /**
+     * 整数槽位
+     */
+    private final Integer[] integers;
+
+    /**
+     * 槽位掩码
+     */
+    private final int mask;
+
+    /**
+     * 参与规范化的字符串最大长度
+     */
+    private final int maxLength;
+
+    /**
+     * 构造方法
+     *
+     * @param capacity 槽位数量，向上取整为2的幂
+     * @param maxLength 参与规范化的字符串最大长度，更长的字符串通常为高基数值，直接创建
+     */
+    public JsonCanonicalTable(int capacity, int maxLength) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.strings = new String[size];
+        this.integers = new Integer[size];
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 获取字符数组区间对应的规范化字符串，命中时不创建新的字符串
+     *
+     * @param chars 字符数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 规范化字符串
+     */
+    public String canonicalize(char[] chars, int offset, int length) {
+        if (length > this.maxLength) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = this.index(hash);
+        String cached = this.strings[index];
+        if (cached != null && cached.length() == length && this.matches(cached, chars, offset)) {
+            return cached;
+        }
+        String value = new String(chars, offset, length);
+        this.strings[index] = value;
+        return value;
+    }
+
+    /**
+     * 获取规范化字符串
+     *
+     * @param value 字符串
+     * @return 规范化字符串
+     */
+    public String canonicalize(String value) {
+        if (value == null || value.length() > this.maxLength) {
+            return value;
+        }
+        int index = this.index(value.hashCode());
+        String cached = this.strings[index];
+        if (value.equals(cached)) {
+            return cached;
+        }
+        this.strings[index] = value;
+        return value;
+    }
+
+    /**
+     * 获取规范化的整数实例
+     *
+     * @param value 整数
+     * @return 规范化的整数实例
+     */
+    public Integer canonicalize(int value) {
+        if (value >= -128 && value <= 127) {
+            return value;
+        }
+        int index = this.index(value);
+        Integer cached = this.integers[index];
+        if (cached != null && cached == value) {
+            return cached;
+        }
+        Integer boxed = value;
+        this.integers[index] = boxed;
+        return boxed;
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    private boolean matches(String cached, char[] chars, int offset) {
+        for (int i = 0; i < cached.length(); i++) {
+            if (cached.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>标记需要在编译期生成JSON编解码器的类。启用{@link JsonCodecProcessor}注解处理器后，为标记的类在同一包下生成名为
+ * {@code <类名>JsonCodec}的编解码器，内部类Serializer、Deserializer直接调用字段或getter/setter读写属性，不依赖反射内省。</p>
+ * <p>{@link com.github.eugeneheen.berry.kit.core.JsonKit}通过{@link JsonCodecModule}自动使用生成的编解码器，
+ * 未启用注解处理器或编解码器无法加载时回退为Jackson默认的反射方式。</p>
+ * <p>标记的类需为非抽象、非泛型的顶层类或静态内部类，并提供非private的无参构造方法；private字段需提供标准的getter/setter（可由Lombok生成）。
+ * 属性只支持{@code @JsonIgnore}、{@code @JsonProperty}两个Jackson注解，使用其他Jackson注解时编译报错。</p>
+ *
+ * @author Eugene
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonCodec {
+
+    /**
+     * 生成的编解码器类名后缀
+     */
+    String SUFFIX = "JsonCodec";
+}
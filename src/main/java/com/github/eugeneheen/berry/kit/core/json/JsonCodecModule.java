@@ -0,0 +1,78 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * <p>加载编译期生成的JSON编解码器的Jackson模块，为标记了{@link JsonCodec}的类使用{@link JsonCodecProcessor}生成的Serializer、Deserializer。</p>
+ * <p>Json工具箱默认的ObjectMapper已注册此模块；自定义的ObjectMapper可通过{@code objectMapper.registerModule(new JsonCodecModule())}注册。
+ * 生成的编解码器不存在或无法加载时返回null，由Jackson回退为默认的反射方式。Jackson按类型缓存编解码器，每个类型只加载一次。</p>
+ *
+ * @author Eugene
+ */
+public class JsonCodecModule extends Module {
+
+    @Override
+    public String getModuleName() {
+        return "JsonCodecModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                return (JsonSerializer<?>) JsonCodecModule.load(type.getRawClass(), "Serializer");
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+                return (JsonDeserializer<?>) JsonCodecModule.load(type.getRawClass(), "Deserializer");
+            }
+        });
+    }
+
+    /**
+     * 获取类的编解码器类名：同一包下，内部类以下划线连接外部类名，并追加{@link JsonCodec#SUFFIX}
+     *
+     * @param binaryName 类的二进制名称，例如：com.example.Order$Item
+     * @return 编解码器类名，例如：com.example.Order_ItemJsonCodec
+     */
+    public static String codecClassName(String binaryName) {
+        int index = binaryName.lastIndexOf('.');
+        return binaryName.substring(0, index + 1) + binaryName.substring(index + 1).replace('$', '_') + JsonCodec.SUFFIX;
+    }
+
+    /**
+     * 加载并创建生成的编解码器
+     *
+     * @param clazz 类
+     * @param kind 编解码器内部类名，Serializer或Deserializer
+     * @return 编解码器，类未标记{@link JsonCodec}或编解码器无法加载时返回null
+     */
+    private static Object load(Class<?> clazz, String kind) {
+        if (!clazz.isAnnotationPresent(JsonCodec.class)) {
+            return null;
+        }
+        try {
+            Class<?> codecClass = Class.forName(codecClassName(clazz.getName()) + "$" + kind, true, clazz.getClassLoader());
+            return codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
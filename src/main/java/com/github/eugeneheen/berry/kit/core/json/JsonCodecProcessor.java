@@ -0,0 +1,557 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>JSON编解码器注解处理器，为标记了{@link JsonCodec}的类生成不依赖反射内省的Jackson Serializer、Deserializer。</p>
+ * <p>属性规则与Json工具箱默认的ObjectMapper（字段可见性为ANY）一致：按声明顺序包含本类及父类的非static、非transient字段，以及没有对应字段的public getter（只序列化）。
+ * 生成的编解码器不使用反射，可访问的字段直接读写，其余字段通过标准的getter/setter读写：</p>
+ * <ul>
+ *     <li>不可访问的字段缺少getter或setter时编译报错，需补充getter、setter，或标记{@code @JsonIgnore}、transient；</li>
+ *     <li>final字段编译报错，需去除final，或标记{@code @JsonIgnore}、transient。</li>
+ * </ul>
+ * <p>以上字段Jackson反射时仍会读写，编译报错可避免生成的编解码器与反射的结果不一致。</p>
+ * <p>注解处理器为可选功能，独立发布为processor分类的构件，主构件中不包含注解处理器的服务注册，
+ * 需在编译期的注解处理器路径中引入，例如Gradle：{@code annotationProcessor 'com.github.eugeneheen:berry-kit:版本号:processor'}。
+ * 生成的类名规则与{@link JsonCodecModule#codecClassName(String)}一致，注解处理器本身不依赖Jackson。</p>
+ *
+ * @author Eugene
+ */
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    private static final String JSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson.annotation.";
+
+    private static final String DATABIND_ANNOTATION_PACKAGE = "com.fasterxml.jackson.databind.annotation.";
+
+    private static final String JSON_IGNORE = JSON_ANNOTATION_PACKAGE + "JsonIgnore";
+
+    private static final String JSON_PROPERTY = JSON_ANNOTATION_PACKAGE + "JsonProperty";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(JsonCodec.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(JsonCodec.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                this.error(element, "@JsonCodec只能标记在类上");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            List<Property> properties = this.validate(type) ? this.properties(type) : null;
+            if (properties != null) {
+                try {
+                    this.generate(type, properties);
+                } catch (IOException e) {
+                    this.error(type, "生成JSON编解码器时发生异常：" + e.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 校验标记的类是否支持生成编解码器
+     *
+     * @param type 标记的类
+     * @return 支持时返回true
+     */
+    private boolean validate(TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            this.error(type, "@JsonCodec标记的类不能是抽象类或private类");
+            return false;
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL
+                && !(type.getNestingKind() == NestingKind.MEMBER && modifiers.contains(Modifier.STATIC))) {
+            this.error(type, "@JsonCodec标记的类只能是顶层类或静态内部类");
+            return false;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            this.error(type, "@JsonCodec标记的类不能是泛型类");
+            return false;
+        }
+        boolean constructor = false;
+        for (ExecutableElement executable : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (executable.getParameters().isEmpty() && !executable.getModifiers().contains(Modifier.PRIVATE)) {
+                constructor = true;
+            }
+        }
+        if (!constructor) {
+            this.error(type, "@JsonCodec标记的类需提供非private的无参构造方法");
+            return false;
+        }
+        for (Element member : this.members(type)) {
+            for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+                String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                if ((name.startsWith(JSON_ANNOTATION_PACKAGE) || name.startsWith(DATABIND_ANNOTATION_PACKAGE))
+                        && !name.equals(JSON_IGNORE) && !name.equals(JSON_PROPERTY)) {
+                    this.error(member, "@JsonCodec标记的类不支持注解：" + name);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取类本身及其父类中需要校验注解的元素
+     *
+     * @param type 标记的类
+     * @return 类、字段与方法
+     */
+    private List<Element> members(TypeElement type) {
+        List<Element> members = new ArrayList<>();
+        for (TypeElement current : this.hierarchy(type)) {
+            members.add(current);
+            members.addAll(ElementFilter.fieldsIn(current.getEnclosedElements()));
+            members.addAll(ElementFilter.methodsIn(current.getEnclosedElements()));
+        }
+        return members;
+    }
+
+    /**
+     * 获取从最顶层父类至当前类的继承链，不包含Object
+     *
+     * @param type 类
+     * @return 继承链
+     */
+    private List<TypeElement> hierarchy(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            hierarchy.add(0, current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return hierarchy;
+    }
+
+    /**
+     * 收集类的JSON属性
+     *
+     * @param type 标记的类
+     * @return 按声明顺序排列的属性，存在缺少getter的不可访问字段时返回null
+     */
+    private List<Property> properties(TypeElement type) {
+        String packageName = this.packageName(type);
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        Map<String, Property> properties = new LinkedHashMap<>();
+        Set<String> ignored = new HashSet<>();
+        boolean valid = true;
+        for (TypeElement current : this.hierarchy(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                String fieldName = field.getSimpleName().toString();
+                if (this.ignored(field)) {
+                    ignored.add(fieldName);
+                    properties.remove(fieldName);
+                    continue;
+                }
+                TypeMirror fieldType = this.processingEnv.getTypeUtils().asMemberOf(declaredType, field);
+                boolean accessible = modifiers.contains(Modifier.PUBLIC)
+                        || (!modifiers.contains(Modifier.PRIVATE) && this.packageName(current).equals(packageName));
+                if (modifiers.contains(Modifier.FINAL)) {
+                    this.error(field, "@JsonCodec标记的类中的final字段" + fieldName + "无法由生成的编解码器反序列化，请去除final，或标记@JsonIgnore、transient");
+                    valid = false;
+                    continue;
+                }
+                Property property = new Property(this.jsonName(field, fieldName), fieldType);
+                if (accessible) {
+                    property.reader = "value." + fieldName;
+                    property.writer = "bean." + fieldName + " = %s";
+                } else {
+                    String suffix = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+                    ExecutableElement getter = this.accessor(type, "get" + suffix, fieldType, null);
+                    if (getter == null && fieldType.getKind() == TypeKind.BOOLEAN) {
+                        getter = this.accessor(type, "is" + suffix, fieldType, null);
+                    }
+                    if (getter == null) {
+                        this.error(field, "@JsonCodec标记的类中不可访问的字段" + fieldName + "缺少getter，请补充getter，或标记@JsonIgnore、transient");
+                        valid = false;
+                        continue;
+                    }
+                    ExecutableElement setter = this.accessor(type, "set" + suffix, null, fieldType);
+                    if (setter == null) {
+                        this.error(field, "@JsonCodec标记的类中不可访问的字段" + fieldName + "缺少setter，请补充setter，或标记@JsonIgnore、transient");
+                        valid = false;
+                        continue;
+                    }
+                    property.reader = "value." + getter.getSimpleName() + "()";
+                    property.writer = "bean." + setter.getSimpleName() + "(%s)";
+                }
+                properties.remove(fieldName);
+                properties.put(fieldName, property);
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+            String propertyName = this.getterProperty(method);
+            if (propertyName == null || properties.containsKey(propertyName) || ignored.contains(propertyName) || this.ignored(method)) {
+                continue;
+            }
+            TypeMirror returnType = ((ExecutableType) this.processingEnv.getTypeUtils().asMemberOf(declaredType, method)).getReturnType();
+            Property property = new Property(this.jsonName(method, propertyName), returnType);
+            property.reader = "value." + method.getSimpleName() + "()";
+            properties.put(propertyName, property);
+        }
+        return valid ? new ArrayList<>(properties.values()) : null;
+    }
+
+    /**
+     * 查找生成的编解码器可调用的getter或setter，编解码器与标记的类位于同一包中
+     *
+     * @param type 标记的类
+     * @param name 方法名称
+     * @param returnType getter的返回类型，查找setter时为null
+     * @param parameterType setter的参数类型，查找getter时为null
+     * @return 方法，不存在或不可调用时返回null
+     */
+    private ExecutableElement accessor(TypeElement type, String name, TypeMirror returnType, TypeMirror parameterType) {
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        String packageName = this.packageName(type);
+        for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!method.getSimpleName().contentEquals(name) || modifiers.contains(Modifier.STATIC)
+                    || method.getParameters().size() != (parameterType == null ? 0 : 1)) {
+                continue;
+            }
+            TypeElement owner = (TypeElement) method.getEnclosingElement();
+            if (!modifiers.contains(Modifier.PUBLIC) && (modifiers.contains(Modifier.PRIVATE) || !this.packageName(owner).equals(packageName))) {
+                continue;
+            }
+            ExecutableType methodType = (ExecutableType) this.processingEnv.getTypeUtils().asMemberOf(declaredType, method);
+            boolean matched = parameterType == null
+                    ? this.processingEnv.getTypeUtils().isSameType(methodType.getReturnType(), returnType)
+                    : this.processingEnv.getTypeUtils().isSameType(methodType.getParameterTypes().get(0), parameterType);
+            if (matched) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取public getter对应的属性名称
+     *
+     * @param method 方法
+     * @return 属性名称，不是getter时返回null
+     */
+    private String getterProperty(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC) || !method.getParameters().isEmpty()
+                || method.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        String name = method.getSimpleName().toString();
+        String suffix;
+        if (name.startsWith("get") && name.length() > 3 && !name.equals("getClass")) {
+            suffix = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            suffix = name.substring(2);
+        } else {
+            return null;
+        }
+        return Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+    }
+
+    /**
+     * 是否标记了{@code @JsonIgnore}
+     *
+     * @param element 字段或方法
+     * @return 标记时返回true
+     */
+    private boolean ignored(Element element) {
+        AnnotationMirror mirror = this.annotation(element, JSON_IGNORE);
+        if (mirror == null) {
+            return false;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return Boolean.TRUE.equals(entry.getValue().getValue());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取属性的JSON名称，优先使用{@code @JsonProperty}指定的名称
+     *
+     * @param element 字段或方法
+     * @param defaultName 默认名称
+     * @return JSON名称
+     */
+    private String jsonName(Element element, String defaultName) {
+        AnnotationMirror mirror = this.annotation(element, JSON_PROPERTY);
+        if (mirror != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value") && !entry.getValue().getValue().toString().isEmpty()) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+        return defaultName;
+    }
+
+    private AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 生成编解码器源文件
+     *
+     * @param type 标记的类
+     * @param properties 类的JSON属性
+     * @throws IOException 写入源文件发生异常
+     */
+    private void generate(TypeElement type, List<Property> properties) throws IOException {
+        String packageName = this.packageName(type);
+        String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+        int index = binaryName.lastIndexOf('.');
+        String codecName = binaryName.substring(0, index + 1) + binaryName.substring(index + 1).replace('$', '_') + JsonCodec.SUFFIX;
+        String codecSimpleName = codecName.substring(codecName.lastIndexOf('.') + 1);
+        String beanName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * ").append(beanName).append("的JSON编解码器，由").append(JsonCodecProcessor.class.getSimpleName()).append("生成，请勿修改\n */\n");
+        source.append("public final class ").append(codecSimpleName).append(" {\n\n");
+        source.append("    private ").append(codecSimpleName).append("() {\n\n    }\n\n");
+
+        source.append("    public static final class Serializer extends com.fasterxml.jackson.databind.ser.std.StdSerializer<").append(beanName).append("> {\n\n");
+        source.append("        public Serializer() {\n            super(").append(beanName).append(".class);\n        }\n\n");
+        source.append("        @Override\n");
+        source.append("        public void serialize(").append(beanName).append(" value, com.fasterxml.jackson.core.JsonGenerator gen, com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {\n");
+        source.append("            gen.writeStartObject();\n");
+        for (Property property : properties) {
+            source.append("            ").append(this.serializeStatement(property)).append('\n');
+        }
+        source.append("            gen.writeEndObject();\n        }\n    }\n\n");
+
+        List<Property> writable = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.writer != null) {
+                writable.add(property);
+            }
+        }
+        source.append("    public static final class Deserializer extends com.fasterxml.jackson.databind.deser.std.StdDeserializer<").append(beanName)
+                .append("> implements com.fasterxml.jackson.databind.deser.ResolvableDeserializer {\n\n");
+        for (int i = 0; i < writable.size(); i++) {
+            if (this.resolvable(writable.get(i).type)) {
+                source.append("        private com.fasterxml.jackson.databind.JsonDeserializer<Object> deserializer").append(i).append(";\n\n");
+            }
+        }
+        source.append("        public Deserializer() {\n            super(").append(beanName).append(".class);\n        }\n\n");
+        source.append("        @Override\n");
+        source.append("        public void resolve(com.fasterxml.jackson.databind.DeserializationContext ctxt) throws com.fasterxml.jackson.databind.JsonMappingException {\n");
+        for (int i = 0; i < writable.size(); i++) {
+            Property property = writable.get(i);
+            if (this.resolvable(property.type)) {
+                source.append("            this.deserializer").append(i).append(" = ctxt.findContextualValueDeserializer(").append(this.javaType(property.type)).append(", null);\n");
+            }
+        }
+        source.append("        }\n\n");
+        source.append("        @Override\n");
+        source.append("        @SuppressWarnings(\"unchecked\")\n");
+        source.append("        public ").append(beanName).append(" deserialize(com.fasterxml.jackson.core.JsonParser p, com.fasterxml.jackson.databind.DeserializationContext ctxt) throws java.io.IOException {\n");
+        source.append("            com.fasterxml.jackson.core.JsonToken token = p.getCurrentToken();\n");
+        source.append("            if (token == com.fasterxml.jackson.core.JsonToken.START_OBJECT) {\n                token = p.nextToken();\n");
+        source.append("            } else if (token != com.fasterxml.jackson.core.JsonToken.FIELD_NAME && token != com.fasterxml.jackson.core.JsonToken.END_OBJECT) {\n");
+        source.append("                return (").append(beanName).append(") ctxt.handleUnexpectedToken(").append(beanName).append(".class, p);\n            }\n");
+        source.append("            ").append(beanName).append(" bean = new ").append(beanName).append("();\n");
+        source.append("            for (; token == com.fasterxml.jackson.core.JsonToken.FIELD_NAME; token = p.nextToken()) {\n");
+        source.append("                String name = p.getCurrentName();\n");
+        source.append("                p.nextToken();\n");
+        source.append("                switch (name) {\n");
+        for (int i = 0; i < writable.size(); i++) {
+            Property property = writable.get(i);
+            source.append("                    case \"").append(this.escape(property.name)).append("\":\n");
+            source.append("                        ").append(String.format(property.writer, this.deserializeExpression(property, i))).append(";\n");
+            source.append("                        break;\n");
+        }
+        source.append("                    default:\n");
+        source.append("                        this.handleUnknownProperty(p, ctxt, bean, name);\n");
+        source.append("                        break;\n");
+        source.append("                }\n            }\n            return bean;\n        }\n    }\n}\n");
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(codecName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * 生成属性的序列化语句
+     *
+     * @param property 属性
+     * @return 序列化语句
+     */
+    private String serializeStatement(Property property) {
+        String name = "\"" + this.escape(property.name) + "\"";
+        switch (property.type.getKind()) {
+            case INT:
+            case LONG:
+            case SHORT:
+            case BYTE:
+            case FLOAT:
+            case DOUBLE:
+                return "gen.writeNumberField(" + name + ", " + property.reader + ");";
+            case BOOLEAN:
+                return "gen.writeBooleanField(" + name + ", " + property.reader + ");";
+            case CHAR:
+                return "gen.writeStringField(" + name + ", String.valueOf(" + property.reader + "));";
+            default:
+                if (this.isString(property.type)) {
+                    return "gen.writeStringField(" + name + ", " + property.reader + ");";
+                }
+                return "provider.defaultSerializeField(" + name + ", " + property.reader + ", gen);";
+        }
+    }
+
+    /**
+     * 生成属性的反序列化表达式
+     *
+     * @param property 属性
+     * @param index 属性序号
+     * @return 反序列化表达式
+     */
+    private String deserializeExpression(Property property, int index) {
+        switch (property.type.getKind()) {
+            case INT:
+                return "this._parseIntPrimitive(p, ctxt)";
+            case LONG:
+                return "this._parseLongPrimitive(p, ctxt)";
+            case SHORT:
+                return "this._parseShortPrimitive(p, ctxt)";
+            case BYTE:
+                return "this._parseBytePrimitive(p, ctxt)";
+            case FLOAT:
+                return "this._parseFloatPrimitive(p, ctxt)";
+            case DOUBLE:
+                return "this._parseDoublePrimitive(p, ctxt)";
+            case BOOLEAN:
+                return "this._parseBooleanPrimitive(p, ctxt)";
+            default:
+                if (this.isString(property.type)) {
+                    return "p.getCurrentToken() == com.fasterxml.jackson.core.JsonToken.VALUE_NULL ? null : this._parseString(p, ctxt)";
+                }
+                String cast = property.type.getKind() == TypeKind.CHAR ? "Character" : property.type.toString();
+                return "(" + cast + ") (p.getCurrentToken() == com.fasterxml.jackson.core.JsonToken.VALUE_NULL ? this.deserializer" + index
+                        + ".getNullValue(ctxt) : this.deserializer" + index + ".deserialize(p, ctxt))";
+        }
+    }
+
+    /**
+     * 属性是否需要预先查找反序列化器
+     *
+     * @param type 属性类型
+     * @return 非String的引用类型及char返回true
+     */
+    private boolean resolvable(TypeMirror type) {
+        return (!type.getKind().isPrimitive() || type.getKind() == TypeKind.CHAR) && !this.isString(type);
+    }
+
+    /**
+     * 生成属性类型的JavaType表达式
+     *
+     * @param type 属性类型
+     * @return JavaType表达式
+     */
+    private String javaType(TypeMirror type) {
+        TypeMirror erasure = this.processingEnv.getTypeUtils().erasure(type);
+        if (type.getKind().isPrimitive() || this.processingEnv.getTypeUtils().isSameType(type, erasure)) {
+            return "ctxt.constructType(" + erasure + ".class)";
+        }
+        return "ctxt.getTypeFactory().constructType(new com.fasterxml.jackson.core.type.TypeReference<" + type + ">() { })";
+    }
+
+    private boolean isString(TypeMirror type) {
+        return type.toString().equals("java.lang.String");
+    }
+
+    private String packageName(TypeElement type) {
+        PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * JSON属性
+     */
+    private static class Property {
+
+        /**
+         * JSON名称
+         */
+        private final String name;
+
+        /**
+         * 属性类型
+         */
+        private final TypeMirror type;
+
+        /**
+         * 读取属性值的表达式
+         */
+        private String reader;
+
+        /**
+         * 写入属性值的语句模板，%s为属性值表达式，只读属性为null
+         */
+        private String writer;
+
+        private Property(String name, TypeMirror type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>JSON Lines（NDJSON）流式迭代器，按换行符拆分记录，逐条返回解析后的元素，空行将被忽略。</p>
+ * <p>指定ForkJoinPool时，按批读取记录行并提交至线程池并行解析，返回顺序与文件中的记录顺序一致；
+ * 同时在途的批次数量有上限，内存占用与文件大小无关。</p>
+ * <p>某条记录解析失败时，先返回其之前已解析成功的记录，迭代至该记录时再抛出包含其行号的解析异常。</p>
+ * <p>迭代结束、解析异常或调用{@link JsonLinesIterator#close()}时，关闭底层的字符输入流。</p>
+ *
+ * @param <T> 记录类型
+ * @author Eugene
+ */
+public class JsonLinesIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * 每个解析批次的记录行数
+     */
+    public static final int BATCH_SIZE = 512;
+
+    /**
+     * 记录行的字符输入流
+     */
+    private final BufferedReader reader;
+
+    /**
+     * 记录的读取器
+     */
+    private final JsonReader<T> jsonReader;
+
+    /**
+     * 并行解析使用的线程池，为null时在当前线程顺序解析
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * 同时在途的批次数量上限
+     */
+    private final int window;
+
+    /**
+     * 按记录顺序排列的在途批次
+     */
+    private final Deque<CompletableFuture<Batch<T>>> pending = new ArrayDeque<>();
+
+    /**
+     * 当前批次中尚未返回的元素
+     */
+    private Iterator<T> batch = Collections.emptyIterator();
+
+    /**
+     * 当前批次中解析失败的记录异常，当前批次的元素返回完毕后抛出
+     */
+    private JsonParseException failure;
+
+    /**
+     * 已读取的行数
+     */
+    private long lineNumber;
+
+    /**
+     * 是否已读取至字符输入流末尾
+     */
+    private boolean eof;
+
+    /**
+     * 是否已关闭
+     */
+    private boolean closed;
+
+    /**
+     * 构造方法
+     *
+     * @param reader 记录行的字符输入流
+     * @param jsonReader 记录的读取器
+     * @param pool 并行解析使用的线程池，为null时在当前线程顺序解析
+     */
+    public JsonLinesIterator(BufferedReader reader, JsonReader<T> jsonReader, ForkJoinPool pool) {
+        this.reader = reader;
+        this.jsonReader = jsonReader;
+        this.pool = pool;
+        this.window = pool == null ? 1 : pool.getParallelism() * 2;
+    }
+
+    @Override
+    public boolean hasNext() throws JsonParseException {
+        while (!this.batch.hasNext()) {
+            if (this.failure != null) {
+                JsonParseException failure = this.failure;
+                this.failure = null;
+                this.close();
+                throw failure;
+            }
+            if (this.closed) {
+                return false;
+            }
+            try {
+                this.fill();
+                CompletableFuture<Batch<T>> future = this.pending.poll();
+                if (future == null) {
+                    this.close();
+                    return false;
+                }
+                Batch<T> batch = future.join();
+                this.batch = batch.values.iterator();
+                this.failure = batch.failure;
+            } catch (CompletionException e) {
+                this.close();
+                if (e.getCause() instanceof JsonParseException) {
+                    throw (JsonParseException) e.getCause();
+                }
+                throw new JsonParseException("JSON Lines流式解析，解析记录时发生异常!", e.getCause());
+            } catch (JsonParseException e) {
+                this.close();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() throws JsonParseException {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.batch.next();
+    }
+
+    /**
+     * 关闭字符输入流并取消尚未开始的批次，可重复调用
+     *
+     * @throws JsonParseException 关闭数据流发生异常
+     */
+    @Override
+    public void close() throws JsonParseException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.batch = Collections.emptyIterator();
+        for (CompletableFuture<Batch<T>> future : this.pending) {
+            future.cancel(false);
+        }
+        this.pending.clear();
+        try {
+            this.reader.close();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Lines流式解析，关闭数据流时发生异常!", e);
+        }
+    }
+
+    /**
+     * 读取记录行并提交解析，直至在途批次数量达到上限或读取至字符输入流末尾
+     *
+     * @throws JsonParseException 读取数据流发生异常
+     */
+    private void fill() throws JsonParseException {
+        while (!this.eof && this.pending.size() < this.window) {
+            long firstLine = this.lineNumber + 1;
+            List<String> lines = new ArrayList<>(BATCH_SIZE);
+            try {
+                String line;
+                while (lines.size() < BATCH_SIZE && (line = this.reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (IOException e) {
+                throw new JsonParseException("JSON Lines流式解析，读取第" + (this.lineNumber + lines.size() + 1) + "行时发生异常!", e);
+            }
+            this.lineNumber += lines.size();
+            if (lines.size() < BATCH_SIZE) {
+                this.eof = true;
+            }
+            if (lines.isEmpty()) {
+                break;
+            }
+            if (this.pool == null) {
+                this.pending.add(CompletableFuture.completedFuture(this.decode(lines, firstLine)));
+            } else {
+                this.pending.add(CompletableFuture.supplyAsync(() -> this.decode(lines, firstLine), this.pool));
+            }
+        }
+    }
+
+    /**
+     * 解析一个批次的记录行，遇到解析失败的记录时停止，保留其之前已解析的元素
+     *
+     * @param lines 记录行
+     * @param firstLine 第一条记录行的行号，从1开始
+     * @return 按记录顺序排列的元素，以及解析失败的记录异常
+     */
+    private Batch<T> decode(List<String> lines, long firstLine) {
+        List<T> values = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                values.add(this.jsonReader.read(line));
+            } catch (JsonParseException e) {
+                return new Batch<>(values, new JsonParseException("JSON Lines流式解析，第" + (firstLine + i) + "行记录解析时发生异常!", e));
+            }
+        }
+        return new Batch<>(values, null);
+    }
+
+    /**
+     * 一个批次的解析结果
+     *
+     * @param <T> 记录类型
+     */
+    private static final class Batch<T> {
+
+        /**
+         * 按记录顺序排列的已解析元素
+         */
+        private final List<T> values;
+
+        /**
+         * 解析失败的记录异常，全部解析成功时为null
+         */
+        private final JsonParseException failure;
+
+        private Batch(List<T> values, JsonParseException failure) {
+            this.values = values;
+            this.failure = failure;
+        }
+    }
+}
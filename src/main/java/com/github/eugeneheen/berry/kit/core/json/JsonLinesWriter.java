@@ -0,0 +1,106 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <p>JSON Lines（NDJSON）流式写入器，所有记录共用同一个JsonGenerator及其输出缓冲，每条记录写为一行并以换行符结尾。</p>
+ * <p>写入记录时不会逐条刷新输出流，需调用{@link JsonLinesWriter#flush()}或{@link JsonLinesWriter#close()}。实例非线程安全。</p>
+ *
+ * @param <T> 记录类型
+ * @author Eugene
+ */
+public class JsonLinesWriter<T> implements Closeable, Flushable {
+
+    /**
+     * 写入记录时共用的生成器
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * 写入记录的ObjectWriter
+     */
+    private final ObjectWriter objectWriter;
+
+    /**
+     * 已写入的记录数
+     */
+    private long count;
+
+    /**
+     * 构造方法
+     *
+     * @param outputStream 输出流，关闭写入器时一并关闭
+     * @param jsonWriter 记录的写入器
+     * @throws JsonParseException 创建生成器发生异常
+     */
+    public JsonLinesWriter(OutputStream outputStream, JsonWriter<T> jsonWriter) throws JsonParseException {
+        this.objectWriter = jsonWriter.getObjectWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try {
+            this.generator = this.objectWriter.getFactory().createGenerator(outputStream);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Lines写入，创建生成器时发生异常!", e);
+        }
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * 写入一条记录
+     *
+     * @param value 记录
+     * @throws JsonParseException 写入发生异常
+     */
+    public void write(T value) throws JsonParseException {
+        try {
+            this.objectWriter.writeValue(this.generator, value);
+            this.generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Lines写入，第" + (this.count + 1) + "条记录时发生异常!", e);
+        }
+        this.count++;
+    }
+
+    /**
+     * 获取已写入的记录数
+     *
+     * @return 已写入的记录数
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * 刷新生成器缓冲及输出流
+     *
+     * @throws JsonParseException 刷新发生异常
+     */
+    @Override
+    public void flush() throws JsonParseException {
+        try {
+            this.generator.flush();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Lines写入，刷新输出流时发生异常!", e);
+        }
+    }
+
+    /**
+     * 刷新并关闭生成器及输出流
+     *
+     * @throws JsonParseException 关闭发生异常
+     */
+    @Override
+    public void close() throws JsonParseException {
+        try {
+            this.generator.close();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Lines写入，关闭输出流时发生异常!", e);
+        }
+    }
+}
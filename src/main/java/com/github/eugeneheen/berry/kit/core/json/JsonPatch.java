@@ -0,0 +1,388 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>JSON Patch（RFC 6902）的差异计算与应用。</p>
+ * <p>差异计算直接在两个文档的原始字节上进行：逐层索引对象字段与数组元素的字节区间，字节完全相同的子树视为相同并跳过，
+ * 不再向下解析，也不会构建对象；只有差异所在的路径被逐层展开，新增或替换的值才会物化。
+ * 数组比较时先跳过相同的前缀与后缀元素，中间部分逐个比较，再删除多余元素或新增缺少的元素。</p>
+ * <p>应用补丁时在文档副本上依次执行add、remove、replace、move、copy、test操作，任一操作失败时抛出异常且不影响原文档。</p>
+ * <p>实例不可变且线程安全，通过{@link com.github.eugeneheen.berry.kit.core.JsonKit#diff(String, String)}、
+ * {@link com.github.eugeneheen.berry.kit.core.JsonKit#patch(String, String)}等方法使用。</p>
+ *
+ * @author Eugene
+ */
+public class JsonPatch {
+
+    /**
+     * 创建解析器与树节点的ObjectMapper，必须为JSON文本格式
+     */
+    private final ObjectMapper objectMapper;
+
+    public JsonPatch(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 计算将源文档转换为目标文档的JSON Patch
+     *
+     * @param source 源文档，UTF-8编码的JSON字节数组
+     * @param target 目标文档，UTF-8编码的JSON字节数组
+     * @return JSON Patch操作数组，文档相同时为空数组
+     * @throws JsonParseException JSON解析异常
+     */
+    public ArrayNode diff(byte[] source, byte[] target) throws JsonParseException {
+        ArrayNode patch = this.objectMapper.createArrayNode();
+        this.diff("", this.root(source), this.root(target), patch);
+        return patch;
+    }
+
+    /**
+     * 在文档副本上应用JSON Patch
+     *
+     * @param document 文档
+     * @param patch JSON Patch操作数组
+     * @return 应用补丁后的文档
+     * @throws JsonParseException 补丁格式错误、路径不存在或test操作不匹配时抛出异常
+     */
+    public JsonNode apply(JsonNode document, JsonNode patch) throws JsonParseException {
+        if (!patch.isArray()) {
+            throw new JsonParseException("JSON Patch，补丁必须是JSON数组");
+        }
+        JsonNode result = document.deepCopy();
+        for (JsonNode operation : patch) {
+            result = this.applyOperation(result, operation);
+        }
+        return result;
+    }
+
+    private void diff(String path, Span source, Span target, ArrayNode patch) throws JsonParseException {
+        if (source.sameBytes(target)) {
+            return;
+        }
+        if (source.token == JsonToken.START_OBJECT && target.token == JsonToken.START_OBJECT) {
+            Map<String, Span> sourceFields = this.fields(source);
+            Map<String, Span> targetFields = this.fields(target);
+            for (Map.Entry<String, Span> entry : sourceFields.entrySet()) {
+                Span targetField = targetFields.get(entry.getKey());
+                if (targetField == null) {
+                    this.operation(patch, "remove", path + "/" + escape(entry.getKey()), null);
+                } else {
+                    this.diff(path + "/" + escape(entry.getKey()), entry.getValue(), targetField, patch);
+                }
+            }
+            for (Map.Entry<String, Span> entry : targetFields.entrySet()) {
+                if (!sourceFields.containsKey(entry.getKey())) {
+                    this.operation(patch, "add", path + "/" + escape(entry.getKey()), this.value(entry.getValue()));
+                }
+            }
+        } else if (source.token == JsonToken.START_ARRAY && target.token == JsonToken.START_ARRAY) {
+            this.diffArray(path, this.elements(source), this.elements(target), patch);
+        } else if (source.token.isStructStart() || target.token.isStructStart()) {
+            this.operation(patch, "replace", path, this.value(target));
+        } else {
+            JsonNode value = this.value(target);
+            if (!this.value(source).equals(value)) {
+                this.operation(patch, "replace", path, value);
+            }
+        }
+    }
+
+    private void diffArray(String path, List<Span> source, List<Span> target, ArrayNode patch) throws JsonParseException {
+        int prefix = 0;
+        int common = Math.min(source.size(), target.size());
+        while (prefix < common && source.get(prefix).sameBytes(target.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < common - prefix
+                && source.get(source.size() - 1 - suffix).sameBytes(target.get(target.size() - 1 - suffix))) {
+            suffix++;
+        }
+        int sourceMiddle = source.size() - prefix - suffix;
+        int targetMiddle = target.size() - prefix - suffix;
+        for (int i = 0; i < Math.min(sourceMiddle, targetMiddle); i++) {
+            this.diff(path + "/" + (prefix + i), source.get(prefix + i), target.get(prefix + i), patch);
+        }
+        for (int i = targetMiddle; i < sourceMiddle; i++) {
+            this.operation(patch, "remove", path + "/" + (prefix + targetMiddle), null);
+        }
+        for (int i = sourceMiddle; i < targetMiddle; i++) {
+            this.operation(patch, "add", path + "/" + (prefix + i), this.value(target.get(prefix + i)));
+        }
+    }
+
+    private void operation(ArrayNode patch, String op, String path, JsonNode value) {
+        ObjectNode operation = patch.addObject();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+    }
+
+    /**
+     * 索引整个文档的字节区间
+     */
+    private Span root(byte[] bytes) throws JsonParseException {
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(bytes)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new JsonParseException("JSON Patch，文档内容为空");
+            }
+            long start = parser.getTokenLocation().getByteOffset();
+            return new Span(bytes, (int) start, (int) this.end(parser, token, 0), token);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Patch，索引文档时发生异常!", e);
+        }
+    }
+
+    /**
+     * 索引对象各字段值的字节区间，重复的字段名称以最后一个为准
+     */
+    private Map<String, Span> fields(Span object) throws JsonParseException {
+        Map<String, Span> fields = new LinkedHashMap<>();
+        try (JsonParser parser = this.open(object)) {
+            long base = object.start - parser.getTokenLocation().getByteOffset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                fields.put(name, this.child(object.bytes, parser, parser.nextToken(), base));
+            }
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Patch，索引位置：" + object.start + "，的JSON对象时发生异常!", e);
+        }
+        return fields;
+    }
+
+    /**
+     * 索引数组各元素的字节区间
+     */
+    private List<Span> elements(Span array) throws JsonParseException {
+        List<Span> elements = new ArrayList<>();
+        try (JsonParser parser = this.open(array)) {
+            long base = array.start - parser.getTokenLocation().getByteOffset();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                elements.add(this.child(array.bytes, parser, token, base));
+            }
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Patch，索引位置：" + array.start + "，的JSON数组时发生异常!", e);
+        }
+        return elements;
+    }
+
+    private Span child(byte[] bytes, JsonParser parser, JsonToken token, long base) throws IOException {
+        int start = (int) (parser.getTokenLocation().getByteOffset() + base);
+        return new Span(bytes, start, (int) this.end(parser, token, base), token);
+    }
+
+    /**
+     * 跳过当前值，返回其结束位置（不包含）。字符串值在读取文本前不会解析至结束引号，需先读取文本长度
+     */
+    private long end(JsonParser parser, JsonToken token, long base) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            parser.getTextLength();
+        } else {
+            parser.skipChildren();
+        }
+        return parser.getCurrentLocation().getByteOffset() + base;
+    }
+
+    private JsonParser open(Span span) throws IOException {
+        JsonParser parser = this.objectMapper.getFactory().createParser(span.bytes, span.start, span.end - span.start);
+        parser.nextToken();
+        return parser;
+    }
+
+    /**
+     * 物化字节区间上的值
+     */
+    private JsonNode value(Span span) throws JsonParseException {
+        try (JsonParser parser = this.open(span)) {
+            return this.objectMapper.readTree(parser);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON Patch，读取位置：" + span.start + "，的值时发生异常!", e);
+        }
+    }
+
+    private JsonNode applyOperation(JsonNode document, JsonNode operation) throws JsonParseException {
+        String op = operation.path("op").asText();
+        String path = this.requireText(operation, "path", op);
+        switch (op) {
+            case "add":
+                return this.add(document, path, this.requireValue(operation, op));
+            case "remove":
+                this.remove(document, path);
+                return document;
+            case "replace":
+                if (this.compile(path).matches()) {
+                    return this.requireValue(operation, op);
+                }
+                this.remove(document, path);
+                return this.add(document, path, this.requireValue(operation, op));
+            case "move": {
+                String from = this.requireText(operation, "from", op);
+                if (path.startsWith(from + "/")) {
+                    throw new JsonParseException("JSON Patch，move操作的目标路径：" + path + "，不能位于源路径：" + from + "，之下");
+                }
+                JsonNode value = this.remove(document, from);
+                return this.add(document, path, value);
+            }
+            case "copy": {
+                String from = this.requireText(operation, "from", op);
+                return this.add(document, path, this.get(document, from).deepCopy());
+            }
+            case "test":
+                if (!this.get(document, path).equals(this.requireValue(operation, op))) {
+                    throw new JsonParseException("JSON Patch，test操作失败，路径：" + path + "，的值与预期不一致");
+                }
+                return document;
+            default:
+                throw new JsonParseException("JSON Patch，不支持的操作：" + op);
+        }
+    }
+
+    private JsonNode add(JsonNode document, String path, JsonNode value) throws JsonParseException {
+        JsonPointer pointer = this.compile(path);
+        if (pointer.matches()) {
+            return value;
+        }
+        JsonNode parent = this.get(document, pointer.head());
+        String name = pointer.last().getMatchingProperty();
+        if (parent.isObject()) {
+            ((ObjectNode) parent).set(name, value);
+        } else if (parent.isArray()) {
+            ArrayNode array = (ArrayNode) parent;
+            if ("-".equals(name)) {
+                array.add(value);
+            } else {
+                array.insert(this.index(array, pointer, path, array.size()), value);
+            }
+        } else {
+            throw new JsonParseException("JSON Patch，路径：" + path + "，的父节点不是对象或数组");
+        }
+        return document;
+    }
+
+    private JsonNode remove(JsonNode document, String path) throws JsonParseException {
+        JsonPointer pointer = this.compile(path);
+        if (pointer.matches()) {
+            throw new JsonParseException("JSON Patch，不能删除整个文档");
+        }
+        JsonNode parent = this.get(document, pointer.head());
+        String name = pointer.last().getMatchingProperty();
+        if (parent.isObject() && parent.has(name)) {
+            return ((ObjectNode) parent).remove(name);
+        }
+        if (parent.isArray()) {
+            ArrayNode array = (ArrayNode) parent;
+            return array.remove(this.index(array, pointer, path, array.size() - 1));
+        }
+        throw new JsonParseException("JSON Patch，路径：" + path + "，不存在");
+    }
+
+    private JsonNode get(JsonNode document, String path) throws JsonParseException {
+        return this.get(document, this.compile(path));
+    }
+
+    private JsonNode get(JsonNode document, JsonPointer pointer) throws JsonParseException {
+        JsonNode node = document.at(pointer);
+        if (node.isMissingNode()) {
+            throw new JsonParseException("JSON Patch，路径：" + pointer + "，不存在");
+        }
+        return node;
+    }
+
+    private int index(ArrayNode array, JsonPointer pointer, String path, int max) throws JsonParseException {
+        int index = pointer.last().getMatchingIndex();
+        if (index < 0 || index > max) {
+            throw new JsonParseException("JSON Patch，路径：" + path + "，的数组下标超出范围，数组长度：" + array.size());
+        }
+        return index;
+    }
+
+    private JsonPointer compile(String path) throws JsonParseException {
+        try {
+            return JsonPointer.compile(path);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException("JSON Patch，路径：" + path + "，不是合法的JSON Pointer", e);
+        }
+    }
+
+    private String requireText(JsonNode operation, String field, String op) throws JsonParseException {
+        JsonNode node = operation.get(field);
+        if (node == null || !node.isTextual()) {
+            throw new JsonParseException("JSON Patch，" + op + "操作缺少" + field + "字段");
+        }
+        return node.asText();
+    }
+
+    private JsonNode requireValue(JsonNode operation, String op) throws JsonParseException {
+        JsonNode value = operation.get("value");
+        if (value == null) {
+            throw new JsonParseException("JSON Patch，" + op + "操作缺少value字段");
+        }
+        return value;
+    }
+
+    /**
+     * 按RFC 6901转义字段名称中的~与/
+     */
+    private static String escape(String name) {
+        if (name.indexOf('~') < 0 && name.indexOf('/') < 0) {
+            return name;
+        }
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * 值在原始字节中的区间
+     */
+    private static final class Span {
+
+        private final byte[] bytes;
+
+        private final int start;
+
+        private final int end;
+
+        private final JsonToken token;
+
+        private Span(byte[] bytes, int start, int end, JsonToken token) {
+            this.bytes = bytes;
+            this.start = start;
+            this.end = end;
+            this.token = token;
+        }
+
+        /**
+         * 字节完全相同的值必然相同，无需解析比较
+         */
+        private boolean sameBytes(Span other) {
+            int length = this.end - this.start;
+            if (length != other.end - other.start) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (this.bytes[this.start + i] != other.bytes[other.start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>基于JSON Pointer（RFC 6901）的局部提取器，流式读取JSON标记，只绑定目标路径上的值。</p>
+ * <p>与目标路径无关的子树直接跳过而不构建对象，所有目标路径均已找到时立即停止读取，适用于从大报文中提取少量字段。</p>
+ * <p>实例不可变且线程安全，通过{@link com.github.eugeneheen.berry.kit.core.JsonKit#extract(String, String, Class)}等方法使用。</p>
+ *
+ * @author Eugene
+ */
+public class JsonPointerExtractor {
+
+    /**
+     * 目标路径
+     */
+    private final List<String> paths;
+
+    /**
+     * 编译后的目标路径
+     */
+    private final List<JsonPointer> pointers;
+
+    /**
+     * 目标路径上值的读取器
+     */
+    private final List<JsonReader<?>> readers;
+
+    /**
+     * 构造方法
+     *
+     * @param paths 目标路径，例如：/data/items/0/id，空字符串表示整个JSON，重复的路径只保留第一个
+     * @param readers 与目标路径一一对应的读取器
+     * @throws JsonParseException 目标路径不是合法的JSON Pointer时抛出异常
+     */
+    public JsonPointerExtractor(List<String> paths, List<JsonReader<?>> readers) throws JsonParseException {
+        if (paths.size() != readers.size()) {
+            throw new JsonParseException("JSON局部提取，目标路径与读取器数量不一致");
+        }
+        // 去除重复的路径，否则提取结果的数量无法达到目标路径数量，无法提前停止读取
+        Map<String, JsonReader<?>> distinct = new LinkedHashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            distinct.putIfAbsent(paths.get(i), readers.get(i));
+        }
+        this.paths = new ArrayList<>(distinct.keySet());
+        this.pointers = new ArrayList<>(this.paths.size());
+        for (String path : this.paths) {
+            try {
+                this.pointers.add(JsonPointer.compile(path));
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException("JSON局部提取，目标路径：" + path + "，不是合法的JSON Pointer", e);
+            }
+        }
+        this.readers = new ArrayList<>(distinct.values());
+    }
+
+    /**
+     * 从解析器中提取目标路径上的值，解析器需尚未读取任何标记，提取完成后不会关闭解析器
+     *
+     * @param parser JSON解析器
+     * @return 以目标路径为键的提取结果，按目标路径顺序排列，不存在的路径不包含在结果中
+     * @throws JsonParseException JSON解析异常
+     */
+    public Map<String, Object> extract(JsonParser parser) throws JsonParseException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<Target> targets = new ArrayList<>(this.pointers.size());
+        for (int i = 0; i < this.pointers.size(); i++) {
+            targets.add(new Target(i, this.pointers.get(i)));
+        }
+        try {
+            if (parser.nextToken() != null) {
+                this.walk(parser, targets, result);
+            }
+        } catch (IOException e) {
+            throw new JsonParseException("JSON局部提取，读取JSON标记时发生异常!", e);
+        }
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        for (String path : this.paths) {
+            if (result.containsKey(path)) {
+                ordered.put(path, result.get(path));
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 处理解析器当前位置的值，处理完成后解析器位于值的最后一个标记上
+     *
+     * @param parser JSON解析器，位于值的第一个标记上
+     * @param targets 剩余路径指向当前值或其子孙的目标
+     * @param result 提取结果
+     * @return 是否已找到所有目标路径
+     * @throws IOException 读取JSON标记发生异常
+     */
+    private boolean walk(JsonParser parser, List<Target> targets, Map<String, Object> result) throws IOException {
+        List<Target> matched = new ArrayList<>();
+        List<Target> descendants = new ArrayList<>();
+        for (Target target : targets) {
+            (target.pointer.matches() ? matched : descendants).add(target);
+        }
+
+        if (!matched.isEmpty()) {
+            if (descendants.isEmpty() && matched.size() == 1) {
+                this.bind(parser, matched.get(0), result);
+            } else {
+                TokenBuffer buffer = new TokenBuffer(parser);
+                buffer.copyCurrentStructure(parser);
+                for (Target target : matched) {
+                    JsonParser bufferParser = buffer.asParser();
+                    bufferParser.nextToken();
+                    this.bind(bufferParser, target, result);
+                }
+                if (!descendants.isEmpty()) {
+                    JsonParser bufferParser = buffer.asParser();
+                    bufferParser.nextToken();
+                    this.descend(bufferParser, descendants, result);
+                }
+            }
+            return result.size() == this.pointers.size();
+        }
+        return this.descend(parser, descendants, result);
+    }
+
+    /**
+     * 进入当前对象或数组查找子孙目标，其余子树直接跳过
+     *
+     * @param parser JSON解析器，位于值的第一个标记上
+     * @param targets 剩余路径指向当前值子孙的目标
+     * @param result 提取结果
+     * @return 是否已找到所有目标路径
+     * @throws IOException 读取JSON标记发生异常
+     */
+    private boolean descend(JsonParser parser, List<Target> targets, Map<String, Object> result) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                List<Target> children = new ArrayList<>();
+                for (Target target : targets) {
+                    JsonPointer tail = target.pointer.matchProperty(name);
+                    if (tail != null) {
+                        children.add(new Target(target.index, tail));
+                    }
+                }
+                if (children.isEmpty()) {
+                    parser.skipChildren();
+                } else if (this.walk(parser, children, result)) {
+                    return true;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                List<Target> children = new ArrayList<>();
+                for (Target target : targets) {
+                    JsonPointer tail = target.pointer.matchElement(index);
+                    if (tail != null) {
+                        children.add(new Target(target.index, tail));
+                    }
+                }
+                if (children.isEmpty()) {
+                    parser.skipChildren();
+                } else if (this.walk(parser, children, result)) {
+                    return true;
+                }
+                index++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 绑定目标路径上的值
+     *
+     * @param parser JSON解析器，位于值的第一个标记上
+     * @param target 目标
+     * @param result 提取结果
+     * @throws JsonParseException JSON解析异常
+     */
+    private void bind(JsonParser parser, Target target, Map<String, Object> result) throws JsonParseException {
+        String path = this.paths.get(target.index);
+        try {
+            result.put(path, this.readers.get(target.index).read(parser));
+        } catch (JsonParseException e) {
+            throw new JsonParseException("JSON局部提取，目标路径：" + path + "，的值转换时发生异常!", e);
+        }
+    }
+
+    /**
+     * 目标路径及其在当前位置剩余的路径
+     */
+    private static class Target {
+
+        /**
+         * 目标路径的序号
+         */
+        private final int index;
+
+        /**
+         * 剩余路径
+         */
+        private final JsonPointer pointer;
+
+        private Target(int index, JsonPointer pointer) {
+            this.index = index;
+            this.pointer = pointer;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>类型化的JSON读取器，内部持有预先构建的{@link ObjectReader}，目标类型与根反序列化器只解析一次。</p>
+ * <p>实例不可变且线程安全，可由调用方长期持有并在多个线程中共享，通过{@link com.github.eugeneheen.berry.kit.core.JsonKit#reader(Class)}获取。</p>
+ *
+ * @param <T> 读取结果类型
+ * @author Eugene
+ */
+public class JsonReader<T> {
+
+    /**
+     * 读取结果类型
+     */
+    private final JavaType type;
+
+    /**
+     * 绑定了结果类型的ObjectReader
+     */
+    private final ObjectReader objectReader;
+
+    public JsonReader(JavaType type, ObjectReader objectReader) {
+        this.type = type;
+        this.objectReader = objectReader;
+    }
+
+    /**
+     * 解析JSON字符串
+     * @param json JSON字符串
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public T read(String json) throws JsonParseException {
+        T t;
+        try {
+            t = this.objectReader.readValue(json);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON字符串转换为对象:" + this.type.toCanonical() + "，时发生异常!", e);
+        }
+        return t;
+    }
+
+    /**
+     * 解析JSON文件流
+     * @param file JSON文件流
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public T read(InputStream file) throws JsonParseException {
+        T t;
+        try {
+            t = this.objectReader.readValue(file);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON文件流转换为对象:" + this.type.toCanonical() + "，时发生异常!", e);
+        }
+        return t;
+    }
+
+    /**
+     * 解析JSON字节数组
+     * @param bytes JSON字节数组
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public T read(byte[] bytes) throws JsonParseException {
+        return this.read(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 解析JSON字节数组中的指定区间
+     * @param bytes JSON字节数组
+     * @param offset JSON内容在字节数组中的起始位置
+     * @param length JSON内容的字节长度
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public T read(byte[] bytes, int offset, int length) throws JsonParseException {
+        T t;
+        try {
+            t = this.objectReader.readValue(bytes, offset, length);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON字节数组转换为对象:" + this.type.toCanonical() + "，时发生异常!", e);
+        }
+        return t;
+    }
+
+    /**
+     * 解析ByteBuffer中剩余的JSON内容（position至limit），解析完成后ByteBuffer的position将移动至limit
+     * @param buffer JSON内容的ByteBuffer，支持堆内存与直接内存
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public T read(ByteBuffer buffer) throws JsonParseException {
+        T t;
+        if (buffer.hasArray()) {
+            t = this.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            try {
+                t = this.objectReader.readValue(new ByteBufferBackedInputStream(buffer));
+            } catch (IOException e) {
+                throw new JsonParseException("JSON ByteBuffer转换为对象:" + this.type.toCanonical() + "，时发生异常!", e);
+            }
+        }
+        return t;
+    }
+
+    /**
+     * 从解析器的当前位置绑定一个值，解析器需位于值的第一个标记上或尚未读取任何标记，绑定完成后位于值的最后一个标记上
+     * @param parser JSON解析器
+     * @return 指定类型的对象
+     * @throws JsonParseException JSON解析异常
+     */
+    public T read(JsonParser parser) throws JsonParseException {
+        T t;
+        try {
+            t = this.objectReader.readValue(parser);
+        } catch (IOException e) {
+            throw new JsonParseException("JSON标记流转换为对象:" + this.type.toCanonical() + "，时发生异常!", e);
+        }
+        return t;
+    }
+
+    /**
+     * 获取读取结果类型
+     * @return 读取结果类型
+     */
+    public JavaType getType() {
+        return this.type;
+    }
+
+    /**
+     * 获取内部绑定了结果类型的ObjectReader
+     * @return ObjectReader
+     */
+    public ObjectReader getObjectReader() {
+        return this.objectReader;
+    }
+}
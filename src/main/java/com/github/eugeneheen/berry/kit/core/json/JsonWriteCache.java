@@ -0,0 +1,360 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.github.eugeneheen.berry.kit.enumeration.JsonCacheRemovalEnum;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>序列化结果缓存，保存对象序列化后的字节，对象未变化时直接返回缓存的字节，适用于配置快照、商品目录等在两次变更之间被反复序列化的对象。</p>
+ * <p>支持两种缓存键：</p>
+ * <ul>
+ *     <li>对象身份：以对象引用为键，适用于不可变对象，对象以弱引用持有，被GC回收后条目自动移除；</li>
+ *     <li>版本号：以调用方指定的键与版本号缓存，版本号变化时重新序列化并替换原条目，适用于会变化但带有版本号的对象。</li>
+ * </ul>
+ * <p>条目数量或序列化结果的总字节数超过上限时，按最近最少使用淘汰；可通过{@link JsonWriteCache#invalidate(Object)}主动失效，
+ * 并通过{@link JsonWriteCache#setRemovalListener(BiConsumer)}监听条目的移除。</p>
+ * <p>实例线程安全，并发首次序列化同一对象时可能重复序列化。通过{@link com.github.eugeneheen.berry.kit.core.JsonKitBuilder#writeCache(int, long)}配置。</p>
+ *
+ * @author Eugene
+ */
+public class JsonWriteCache {
+
+    /**
+     * 条目数量上限
+     */
+    private final int maxEntries;
+
+    /**
+     * 序列化结果的总字节数上限
+     */
+    private final long maxWeight;
+
+    /**
+     * 按访问顺序排列的条目
+     */
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 已被GC回收的对象身份键
+     */
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * 命中次数
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * 未命中次数
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 淘汰次数，不包含主动失效与版本变更
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 序列化结果的总字节数
+     */
+    private long weight;
+
+    /**
+     * 条目移除的监听器
+     */
+    private volatile BiConsumer<Object, JsonCacheRemovalEnum> removalListener;
+
+    /**
+     * 构造方法
+     *
+     * @param maxEntries 条目数量上限
+     * @param maxWeight 序列化结果的总字节数上限，单个结果超过此值时不缓存
+     */
+    public JsonWriteCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * 按对象身份获取序列化结果，未缓存时序列化并缓存
+     *
+     * @param object 不可变对象
+     * @param encoder 序列化方法
+     * @return 序列化结果，为缓存内容，调用方不可修改
+     */
+    public byte[] get(Object object, Supplier<byte[]> encoder) {
+        byte[] bytes;
+        synchronized (this) {
+            Entry entry = this.entries.get(new IdentityLookup(object));
+            bytes = entry == null ? null : entry.bytes;
+        }
+        if (bytes != null) {
+            this.hits.increment();
+            return bytes;
+        }
+        this.misses.increment();
+        bytes = encoder.get();
+        this.put(new IdentityKey(object, this.collected), object, 0, bytes);
+        return bytes;
+    }
+
+    /**
+     * 按键与版本号获取序列化结果，未缓存或版本号不一致时序列化并替换原条目
+     *
+     * @param key 缓存键，需正确实现equals与hashCode，例如配置名称、商品编号
+     * @param version 版本号，例如修改时间戳或递增的版本号
+     * @param encoder 序列化方法，只在未命中时调用
+     * @return 序列化结果，为缓存内容，调用方不可修改
+     */
+    public byte[] get(Object key, long version, Supplier<byte[]> encoder) {
+        byte[] bytes;
+        synchronized (this) {
+            Entry entry = this.entries.get(key);
+            bytes = entry == null || entry.version != version ? null : entry.bytes;
+        }
+        if (bytes != null) {
+            this.hits.increment();
+            return bytes;
+        }
+        this.misses.increment();
+        bytes = encoder.get();
+        this.put(key, key, version, bytes);
+        return bytes;
+    }
+
+    /**
+     * 主动失效指定对象或键的条目
+     *
+     * @param keyOrObject 按对象身份缓存的对象，或按版本号缓存的键
+     */
+    public void invalidate(Object keyOrObject) {
+        List<Object> removed = new ArrayList<>(2);
+        synchronized (this) {
+            if (this.remove(new IdentityLookup(keyOrObject)) != null) {
+                removed.add(keyOrObject);
+            }
+            if (this.remove(keyOrObject) != null) {
+                removed.add(keyOrObject);
+            }
+        }
+        this.fireRemoval(removed, JsonCacheRemovalEnum.EXPLICIT);
+    }
+
+    /**
+     * 主动失效全部条目
+     */
+    public void invalidateAll() {
+        List<Object> removed = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : this.entries.values()) {
+                removed.add(entry.key());
+            }
+            this.entries.clear();
+            this.weight = 0;
+        }
+        this.fireRemoval(removed, JsonCacheRemovalEnum.EXPLICIT);
+    }
+
+    /**
+     * 设置条目移除的监听器，可用于同步失效下游缓存或记录日志，监听器在移除条目的线程中执行
+     *
+     * @param removalListener 监听器，参数为被移除的对象或键（对象已被GC回收时为null）及移除原因
+     */
+    public void setRemovalListener(BiConsumer<Object, JsonCacheRemovalEnum> removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    /**
+     * 获取条目数量
+     *
+     * @return 条目数量
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * 获取序列化结果的总字节数
+     *
+     * @return 总字节数
+     */
+    public synchronized long getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * 获取因数量或容量超过上限而淘汰的次数
+     *
+     * @return 淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    private void put(Object mapKey, Object key, long version, byte[] bytes) {
+        if (bytes.length > this.maxWeight) {
+            return;
+        }
+        List<Object> replaced = new ArrayList<>(1);
+        List<Object> oversize = new ArrayList<>(1);
+        List<Object> overweight = new ArrayList<>(1);
+        List<Object> gone = new ArrayList<>(1);
+        synchronized (this) {
+            this.purge(gone);
+            Entry previous = this.entries.put(mapKey, new Entry(mapKey, version, bytes));
+            this.weight += bytes.length;
+            if (previous != null) {
+                this.weight -= previous.bytes.length;
+                if (previous.version != version) {
+                    replaced.add(key);
+                }
+            }
+            Iterator<Entry> iterator = this.entries.values().iterator();
+            while (this.entries.size() > this.maxEntries || this.weight > this.maxWeight) {
+                Entry eldest = iterator.next();
+                (this.entries.size() > this.maxEntries ? oversize : overweight).add(eldest.key());
+                iterator.remove();
+                this.weight -= eldest.bytes.length;
+            }
+        }
+        this.evictions.add(oversize.size() + overweight.size());
+        this.fireRemoval(gone, JsonCacheRemovalEnum.COLLECTED);
+        this.fireRemoval(replaced, JsonCacheRemovalEnum.REPLACED);
+        this.fireRemoval(oversize, JsonCacheRemovalEnum.SIZE);
+        this.fireRemoval(overweight, JsonCacheRemovalEnum.WEIGHT);
+    }
+
+    /**
+     * 移除对象已被GC回收的条目，需持有锁
+     */
+    private void purge(List<Object> gone) {
+        Reference<?> reference;
+        while ((reference = this.collected.poll()) != null) {
+            if (this.remove(reference) != null) {
+                gone.add(null);
+            }
+        }
+    }
+
+    /**
+     * 移除条目并扣减总字节数，需持有锁
+     */
+    private Entry remove(Object mapKey) {
+        Entry entry = this.entries.remove(mapKey);
+        if (entry != null) {
+            this.weight -= entry.bytes.length;
+        }
+        return entry;
+    }
+
+    private void fireRemoval(List<Object> keys, JsonCacheRemovalEnum cause) {
+        BiConsumer<Object, JsonCacheRemovalEnum> listener = this.removalListener;
+        if (listener == null || keys.isEmpty()) {
+            return;
+        }
+        for (Object key : keys) {
+            listener.accept(key, cause);
+        }
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static final class Entry {
+
+        private final Object mapKey;
+
+        private final long version;
+
+        private final byte[] bytes;
+
+        private Entry(Object mapKey, long version, byte[] bytes) {
+            this.mapKey = mapKey;
+            this.version = version;
+            this.bytes = bytes;
+        }
+
+        /**
+         * 获取对象或键，按对象身份缓存且对象已被GC回收时返回null
+         */
+        private Object key() {
+            return this.mapKey instanceof IdentityKey ? ((IdentityKey) this.mapKey).get() : this.mapKey;
+        }
+    }
+
+    /**
+     * 以弱引用持有对象的身份键
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        private IdentityKey(Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            this.hash = System.identityHashCode(object);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object object = this.get();
+            return object != null && other instanceof IdentityKey && ((IdentityKey) other).get() == object;
+        }
+    }
+
+    /**
+     * 查找身份键时使用的临时键，避免每次查找创建弱引用
+     */
+    private static final class IdentityLookup {
+
+        private final Object object;
+
+        private IdentityLookup(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.object);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).get() == this.object;
+        }
+    }
+}
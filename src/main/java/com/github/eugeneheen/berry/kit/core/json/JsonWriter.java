@@ -0,0 +1,184 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>类型化的JSON写入器，内部持有预先构建的{@link ObjectWriter}，根序列化器只解析一次。</p>
+ * <p>实例不可变且线程安全，可由调用方长期持有并在多个线程中共享，通过{@link com.github.eugeneheen.berry.kit.core.JsonKit#writer(Class)}获取。</p>
+ *
+ * @param <T> 写入对象类型
+ * @author Eugene
+ */
+public class JsonWriter<T> {
+
+    /**
+     * 写入对象类型
+     */
+    private final JavaType type;
+
+    /**
+     * 绑定了写入对象类型的ObjectWriter
+     */
+    private final ObjectWriter objectWriter;
+
+    /**
+     * 序列化输出缓冲池，仅用于{@link JsonWriter#write(Object)}，为null时由Jackson按次分配输出缓冲
+     */
+    private final JsonBufferPool bufferPool;
+
+    public JsonWriter(JavaType type, ObjectWriter objectWriter) {
+        this(type, objectWriter, null);
+    }
+
+    public JsonWriter(JavaType type, ObjectWriter objectWriter, JsonBufferPool bufferPool) {
+        this.type = type;
+        this.objectWriter = objectWriter;
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * 转换对象为JSON字符串
+     * @param value 待转换的对象
+     * @return JSON字符串
+     * @throws JsonParseException JSON解析异常
+     */
+    public String write(T value) throws JsonParseException {
+        String result;
+        if (this.bufferPool == null) {
+            try {
+                result = this.objectWriter.writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                throw new JsonParseException(this.type.toCanonical() + "转换为JSON字符串发生异常", e);
+            }
+            return result;
+        }
+        JsonBufferPool.JsonBuffer buffer = this.bufferPool.acquire();
+        try {
+            this.write(value, buffer);
+            result = buffer.toString();
+        } finally {
+            this.bufferPool.release(buffer);
+        }
+        return result;
+    }
+
+    /**
+     * 转换对象为UTF-8编码的JSON字节数组
+     * @param value 待转换的对象
+     * @return UTF-8编码的JSON字节数组
+     * @throws JsonParseException JSON解析异常
+     */
+    public byte[] writeAsBytes(T value) throws JsonParseException {
+        byte[] result;
+        try {
+            result = this.objectWriter.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new JsonParseException(this.type.toCanonical() + "转换为JSON字节数组发生异常", e);
+        }
+        return result;
+    }
+
+    /**
+     * 转换对象为UTF-8编码的JSON并写入输出流。写入完成后刷新输出流，但不会关闭输出流
+     * @param value 待转换的对象
+     * @param outputStream 输出流
+     * @throws JsonParseException JSON解析异常
+     */
+    public void write(T value, OutputStream outputStream) throws JsonParseException {
+        try (JsonGenerator generator = this.objectWriter.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.objectWriter.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new JsonParseException(this.type.toCanonical() + "转换为JSON写入输出流发生异常", e);
+        }
+    }
+
+    /**
+     * 转换对象为JSON并写入字符输出流。写入完成后刷新字符输出流，但不会关闭字符输出流
+     * @param value 待转换的对象
+     * @param writer 字符输出流
+     * @throws JsonParseException JSON解析异常
+     */
+    public void write(T value, Writer writer) throws JsonParseException {
+        try (JsonGenerator generator = this.objectWriter.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.objectWriter.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new JsonParseException(this.type.toCanonical() + "转换为JSON写入字符输出流发生异常", e);
+        }
+    }
+
+    /**
+     * 转换对象为UTF-8编码的JSON，从ByteBuffer的当前position开始写入，写入完成后position移动至JSON内容末尾，空间不足时position保持不变
+     * @param value 待转换的对象
+     * @param buffer 写入目标ByteBuffer，支持堆内存与直接内存
+     * @return 写入的字节数
+     * @throws JsonParseException JSON解析异常，ByteBuffer剩余空间不足时同样抛出此异常
+     */
+    public int write(T value, ByteBuffer buffer) throws JsonParseException {
+        int start = buffer.position();
+        boolean written = false;
+        try {
+            this.write(value, new ByteBufferBackedOutputStream(buffer));
+            written = true;
+        } catch (RuntimeException e) {
+            // 序列化中途的溢出会被Jackson包装为JsonMappingException，需沿异常链判断
+            if (isOverflow(e)) {
+                throw new JsonParseException(this.type.toCanonical() + "转换为JSON写入ByteBuffer，剩余空间不足", e);
+            }
+            throw e;
+        } finally {
+            if (!written) {
+                buffer.position(start);
+            }
+        }
+        return buffer.position() - start;
+    }
+
+    /**
+     * 异常链中是否包含ByteBuffer剩余空间不足的异常
+     */
+    private static boolean isOverflow(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BufferOverflowException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取写入对象类型
+     * @return 写入对象类型
+     */
+    public JavaType getType() {
+        return this.type;
+    }
+
+    /**
+     * 获取内部绑定了写入对象类型的ObjectWriter
+     * @return ObjectWriter
+     */
+    public ObjectWriter getObjectWriter() {
+        return this.objectWriter;
+    }
+
+    /**
+     * 获取序列化输出缓冲池
+     * @return 序列化输出缓冲池，未配置时返回null
+     */
+    public JsonBufferPool getBufferPool() {
+        return this.bufferPool;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * <p>延迟解析的JSON数组只读List视图，首次访问时只扫描一遍数组并记录各元素的位置，元素在首次访问时才物化并缓存。</p>
+ * <p>视图只读，修改操作抛出{@link UnsupportedOperationException}；可在多个线程中并发读取，并发首次访问同一元素时可能重复物化。</p>
+ *
+ * @author Eugene
+ */
+public class LazyJsonList extends AbstractList<Object> implements RandomAccess {
+
+    /**
+     * 尚未物化的元素
+     */
+    private static final Object UNRESOLVED = new Object();
+
+    /**
+     * 原始字节及解析器
+     */
+    private final LazyJsonSource source;
+
+    /**
+     * 数组开始标记在字节数组中的位置
+     */
+    private final int start;
+
+    /**
+     * 结构索引，首次访问时建立
+     */
+    private volatile LazyJsonSource.Index index;
+
+    /**
+     * 已物化的元素
+     */
+    private volatile Object[] values;
+
+    LazyJsonList(LazyJsonSource source, int start) {
+        this.source = source;
+        this.start = start;
+    }
+
+    @Override
+    public Object get(int position) {
+        int[] offsets = this.index().offsets;
+        if (position < 0 || position >= offsets.length) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + offsets.length);
+        }
+        Object[] values = this.values;
+        if (values == null) {
+            values = new Object[offsets.length];
+            Arrays.fill(values, UNRESOLVED);
+            this.values = values;
+        }
+        Object value = values[position];
+        if (value == UNRESOLVED) {
+            value = this.source.value(offsets[position], this.index().lengths[position]);
+            values[position] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return this.index().offsets.length;
+    }
+
+    /**
+     * 获取结构索引，首次访问时建立
+     *
+     * @return 结构索引
+     */
+    private LazyJsonSource.Index index() {
+        LazyJsonSource.Index index = this.index;
+        if (index == null) {
+            index = this.source.indexArray(this.start);
+            this.index = index;
+        }
+        return index;
+    }
+}
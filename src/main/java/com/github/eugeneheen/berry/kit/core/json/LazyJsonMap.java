@@ -0,0 +1,199 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>延迟解析的JSON对象只读Map视图，创建时只扫描一遍原始字节并记录各字段值的位置，字段值在首次访问时才物化并缓存。</p>
+ * <p>嵌套的对象与数组同样以{@link LazyJsonMap}、{@link LazyJsonList}延迟解析，未访问的子树不会创建任何对象。
+ * 视图持有原始字节数组的引用，调用方不可再修改该字节数组。</p>
+ * <p>视图只读，修改操作抛出{@link UnsupportedOperationException}；可在多个线程中并发读取，并发首次访问同一字段时可能重复物化。</p>
+ *
+ * @author Eugene
+ */
+public class LazyJsonMap extends AbstractMap<String, Object> {
+
+    /**
+     * 字段数量超过此值时建立字段名称的哈希索引
+     */
+    private static final int HASH_THRESHOLD = 8;
+
+    /**
+     * 尚未物化的字段值
+     */
+    private static final Object UNRESOLVED = new Object();
+
+    /**
+     * 原始字节及解析器
+     */
+    private final LazyJsonSource source;
+
+    /**
+     * 对象开始标记在字节数组中的位置
+     */
+    private final int start;
+
+    /**
+     * 结构索引，首次访问时建立
+     */
+    private volatile LazyJsonSource.Index index;
+
+    /**
+     * 字段名称的哈希索引，字段较多时首次按名称访问时建立
+     */
+    private volatile Map<String, Integer> positions;
+
+    /**
+     * 已物化的字段值
+     */
+    private volatile Object[] values;
+
+    /**
+     * 字段集合视图
+     */
+    private Set<Entry<String, Object>> entrySet;
+
+    LazyJsonMap(LazyJsonSource source, int start) {
+        this.source = source;
+        this.start = start;
+    }
+
+    /**
+     * 创建JSON对象的延迟解析视图，立即建立顶层对象的结构索引
+     *
+     * @param bytes UTF-8编码的JSON字节数组，内容必须是JSON对象
+     * @param offset JSON内容在字节数组中的起始位置
+     * @param length JSON内容的字节长度
+     * @param factory JSON格式的JsonFactory
+     * @param reader 基本类型值的读取器
+     * @return 延迟解析的Map视图
+     * @throws JsonParseException JSON解析异常，或内容不是JSON对象
+     */
+    public static LazyJsonMap of(byte[] bytes, int offset, int length, JsonFactory factory, JsonReader<Object> reader) throws JsonParseException {
+        LazyJsonMap map = new LazyJsonMap(new LazyJsonSource(bytes, offset + length, factory, reader), offset);
+        map.index();
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return this.index().offsets.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.position(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int position = this.position(key);
+        return position < 0 ? null : this.value(position);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<Entry<String, Object>>() {
+                        private int position;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.position < LazyJsonMap.this.size();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!this.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int current = this.position++;
+                            return new SimpleImmutableEntry<>(LazyJsonMap.this.index().names[current], LazyJsonMap.this.value(current));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return LazyJsonMap.this.size();
+                }
+            };
+        }
+        return this.entrySet;
+    }
+
+    /**
+     * 获取结构索引，首次访问时建立
+     *
+     * @return 结构索引
+     */
+    private LazyJsonSource.Index index() {
+        LazyJsonSource.Index index = this.index;
+        if (index == null) {
+            index = this.source.index(this.start);
+            this.index = index;
+        }
+        return index;
+    }
+
+    /**
+     * 查找字段的位置，重复的字段名称以最后一个为准
+     *
+     * @param key 字段名称
+     * @return 字段的序号，不存在时返回-1
+     */
+    private int position(Object key) {
+        String[] names = this.index().names;
+        if (names.length <= HASH_THRESHOLD) {
+            for (int i = names.length - 1; i >= 0; i--) {
+                if (names[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Map<String, Integer> positions = this.positions;
+        if (positions == null) {
+            positions = new HashMap<>(names.length * 4 / 3 + 1);
+            for (int i = 0; i < names.length; i++) {
+                positions.put(names[i], i);
+            }
+            this.positions = positions;
+        }
+        Integer position = positions.get(key);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * 获取字段值，首次访问时物化并缓存
+     *
+     * @param position 字段的序号
+     * @return 字段值
+     */
+    private Object value(int position) {
+        Object[] values = this.values;
+        if (values == null) {
+            values = new Object[this.index().offsets.length];
+            Arrays.fill(values, UNRESOLVED);
+            this.values = values;
+        }
+        Object value = values[position];
+        if (value == UNRESOLVED) {
+            value = this.source.value(this.index().offsets[position], this.index().lengths[position]);
+            values[position] = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 延迟解析JSON的原始字节及解析器，由同一文档的{@link LazyJsonMap}、{@link LazyJsonList}共享
+ *
+ * @author Eugene
+ */
+final class LazyJsonSource {
+
+    /**
+     * UTF-8编码的JSON字节数组
+     */
+    private final byte[] bytes;
+
+    /**
+     * JSON内容在字节数组中的结束位置（不包含）
+     */
+    private final int end;
+
+    /**
+     * 创建解析器的JsonFactory
+     */
+    private final JsonFactory factory;
+
+    /**
+     * 基本类型值的读取器
+     */
+    private final JsonReader<Object> reader;
+
+    LazyJsonSource(byte[] bytes, int end, JsonFactory factory, JsonReader<Object> reader) {
+        this.bytes = bytes;
+        this.end = end;
+        this.factory = factory;
+        this.reader = reader;
+    }
+
+    /**
+     * 物化指定位置的值，对象与数组返回延迟解析的视图，其余类型直接绑定
+     *
+     * @param start 值的第一个标记在字节数组中的位置
+     * @param length 数值的字节长度，其余类型为0
+     * @return 值
+     * @throws JsonParseException JSON解析异常
+     */
+    Object value(int start, int length) throws JsonParseException {
+        try (Cursor cursor = this.open(start, length > 0 ? start + length : this.end)) {
+            JsonToken token = cursor.parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                return new LazyJsonMap(this, start);
+            }
+            if (token == JsonToken.START_ARRAY) {
+                return new LazyJsonList(this, start);
+            }
+            return this.reader.read(cursor.parser);
+        }
+    }
+
+    /**
+     * 索引指定位置的JSON对象，记录每个字段的名称及值的位置，字段值的子树只扫描不物化
+     *
+     * @param start 对象开始标记在字节数组中的位置
+     * @return 对象索引
+     * @throws JsonParseException JSON解析异常
+     */
+    Index index(int start) throws JsonParseException {
+        return this.index(start, JsonToken.START_OBJECT);
+    }
+
+    /**
+     * 索引指定位置的JSON数组，记录每个元素的位置，元素的子树只扫描不物化
+     *
+     * @param start 数组开始标记在字节数组中的位置
+     * @return 数组索引，名称为null
+     * @throws JsonParseException JSON解析异常
+     */
+    Index indexArray(int start) throws JsonParseException {
+        return this.index(start, JsonToken.START_ARRAY);
+    }
+
+    private Index index(int start, JsonToken expected) throws JsonParseException {
+        boolean object = expected == JsonToken.START_OBJECT;
+        String[] names = object ? new String[8] : null;
+        int[] offsets = new int[8];
+        int[] lengths = new int[8];
+        int size = 0;
+        try (Cursor cursor = this.open(start, this.end)) {
+            JsonParser parser = cursor.parser;
+            if (parser.getCurrentToken() != expected) {
+                throw new JsonParseException("JSON延迟解析，位置：" + start + "，不是JSON" + (object ? "对象" : "数组") + "：" + parser.getCurrentToken());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException("JSON延迟解析，位置：" + start + "，的JSON内容不完整");
+                }
+                if (size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                    lengths = Arrays.copyOf(lengths, size * 2);
+                    if (object) {
+                        names = Arrays.copyOf(names, size * 2);
+                    }
+                }
+                if (object) {
+                    names[size] = parser.getCurrentName();
+                    token = parser.nextToken();
+                }
+                if (token.isNumeric()) {
+                    lengths[size] = parser.getTextLength();
+                }
+                offsets[size++] = cursor.offset();
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new JsonParseException("JSON延迟解析，索引位置：" + start + "，时发生异常!", e);
+        }
+        return new Index(object ? Arrays.copyOf(names, size) : null, Arrays.copyOf(offsets, size), Arrays.copyOf(lengths, size));
+    }
+
+    /**
+     * <p>从指定位置创建解析器，并定位至该位置的第一个标记。</p>
+     * <p>先跳过前导空白，使解析器的第一个标记恰好位于解析的起始位置，
+     * 无论解析器的字节位置是否包含起始偏移，均可由第一个标记换算出与字节数组位置的偏差。</p>
+     *
+     * @param start 值的第一个标记或其前导空白在字节数组中的位置
+     * @param end 解析的结束位置（不包含），数值之后紧跟分隔符时需以数值末尾为结束位置
+     * @return 解析游标
+     * @throws JsonParseException JSON解析异常
+     */
+    private Cursor open(int start, int end) throws JsonParseException {
+        while (start < end && isWhitespace(this.bytes[start])) {
+            start++;
+        }
+        JsonParser parser;
+        try {
+            parser = this.factory.createParser(this.bytes, start, end - start);
+            parser.nextToken();
+        } catch (IOException e) {
+            throw new JsonParseException("JSON延迟解析，位置：" + start + "，创建解析器时发生异常!", e);
+        }
+        return new Cursor(parser, start - parser.getTokenLocation().getByteOffset());
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    /**
+     * 对象或数组的结构索引
+     */
+    static final class Index {
+
+        /**
+         * 字段名称，数组为null
+         */
+        final String[] names;
+
+        /**
+         * 字段值或元素在字节数组中的位置
+         */
+        final int[] offsets;
+
+        /**
+         * 数值类型字段值或元素的字节长度，其余类型为0
+         */
+        final int[] lengths;
+
+        private Index(String[] names, int[] offsets, int[] lengths) {
+            this.names = names;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+    }
+
+    /**
+     * 解析器及其标记位置与字节数组位置的偏差
+     */
+    private static final class Cursor implements AutoCloseable {
+
+        private final JsonParser parser;
+
+        private final long base;
+
+        private Cursor(JsonParser parser, long base) {
+            this.parser = parser;
+            this.base = base;
+        }
+
+        /**
+         * 获取当前标记在字节数组中的位置
+         *
+         * @return 字节数组中的位置
+         */
+        private int offset() {
+            return (int) (this.parser.getTokenLocation().getByteOffset() + this.base);
+        }
+
+        @Override
+        public void close() throws JsonParseException {
+            try {
+                this.parser.close();
+            } catch (IOException e) {
+                throw new JsonParseException("JSON延迟解析，关闭解析器时发生异常!", e);
+            }
+        }
+    }
+}
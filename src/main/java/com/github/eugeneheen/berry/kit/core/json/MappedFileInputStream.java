@@ -0,0 +1,145 @@
+package com.github.eugeneheen.berry.kit.core.json;
+
+import com.github.eugeneheen.berry.kit.exception.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>基于内存映射的文件输入流，直接从映射区域读取文件内容，不经过文件描述符的逐次系统调用与内核缓冲的复制。</p>
+ * <p>文件按区域依次映射，单个区域不超过1G，因此同样支持超过2G的文件。映射区域在流关闭后由GC回收，期间文件不可被截断。
+ * 实例非线程安全。</p>
+ *
+ * @author Eugene
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /**
+     * 单个映射区域的最大字节数
+     */
+    private static final long REGION_SIZE = 1L << 30;
+
+    /**
+     * 文件通道，全部区域映射完成后关闭
+     */
+    private FileChannel channel;
+
+    /**
+     * 文件大小
+     */
+    private final long size;
+
+    /**
+     * 下一个映射区域在文件中的起始位置
+     */
+    private long position;
+
+    /**
+     * 当前映射区域
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * 映射文件
+     *
+     * @param path 文件路径
+     * @throws JsonParseException 文件不存在或映射失败时抛出异常
+     */
+    public MappedFileInputStream(Path path) throws JsonParseException {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.size = this.channel.size();
+            this.nextRegion();
+        } catch (IOException e) {
+            this.closeChannel();
+            throw new JsonParseException("文件：" + path + "，映射至内存时发生异常!", e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.ensureRemaining()) {
+            return -1;
+        }
+        return this.region.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!this.ensureRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, this.region.remaining());
+        this.region.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && this.ensureRemaining()) {
+            int count = (int) Math.min(n - skipped, this.region.remaining());
+            this.region.position(this.region.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.region == null ? 0 : this.region.remaining();
+    }
+
+    @Override
+    public void close() {
+        this.region = null;
+        this.position = this.size;
+        this.closeChannel();
+    }
+
+    /**
+     * 当前区域已读完时映射下一个区域
+     *
+     * @return 仍有未读取的内容返回true
+     * @throws IOException 映射失败
+     */
+    private boolean ensureRemaining() throws IOException {
+        while (this.region != null && !this.region.hasRemaining()) {
+            this.nextRegion();
+        }
+        return this.region != null;
+    }
+
+    private void nextRegion() throws IOException {
+        if (this.position >= this.size) {
+            this.region = null;
+            this.closeChannel();
+            return;
+        }
+        long length = Math.min(REGION_SIZE, this.size - this.position);
+        this.region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, length);
+        this.position += length;
+        if (this.position >= this.size) {
+            this.closeChannel();
+        }
+    }
+
+    private void closeChannel() {
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            // 映射区域不依赖通道，关闭失败不影响读取
+        }
+        this.channel = null;
+    }
+}
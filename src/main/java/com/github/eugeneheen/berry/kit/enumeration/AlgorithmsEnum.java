@@ -34,6 +34,10 @@ public enum AlgorithmsEnum {
      * AES密钥算法
      */
     AES("AES"),
+    /**
+     * AES-Cipher，CTR计数器模式，不填充，适用于大文件流式加解密
+     */
+    AES_CTR_CIPHER("AES/CTR/NoPadding"),
     /**
      * RSA密钥算法
      */
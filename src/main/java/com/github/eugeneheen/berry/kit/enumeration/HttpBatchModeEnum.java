@@ -0,0 +1,29 @@
+package com.github.eugeneheen.berry.kit.enumeration;
+
+import lombok.Getter;
+
+/**
+ * <p>批量Http请求的失败处理模式枚举定义</p>
+ *
+ * @author Eugene
+ */
+@Getter
+public enum HttpBatchModeEnum {
+    /**
+     * 任一请求失败时取消尚未开始的请求并抛出异常
+     */
+    FAIL_FAST("快速失败"),
+    /**
+     * 执行全部请求，失败的请求在结果中记录异常
+     */
+    COLLECT_ALL("收集全部结果");
+
+    /**
+     * 模式说明
+     */
+    private String desc;
+
+    HttpBatchModeEnum(String desc) {
+        this.desc = desc;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.eugeneheen.berry.kit.enumeration;
+
+import lombok.Getter;
+
+/**
+ * <p>Json工具箱序列化输出缓冲的复用策略枚举定义</p>
+ *
+ * @author Eugene
+ */
+@Getter
+public enum JsonBufferPoolEnum {
+    /**
+     * 不复用，由Jackson按次分配输出缓冲
+     */
+    NONE("不复用"),
+    /**
+     * 线程本地复用，每个线程持有一个输出缓冲，适用于固定线程池
+     */
+    THREAD_LOCAL("线程本地复用"),
+    /**
+     * 全局共享复用，输出缓冲存放在有界的无锁队列中，可在任意线程间借还，适用于虚拟线程或线程数量不固定的场景
+     */
+    SHARED("全局共享复用");
+
+    /**
+     * 策略说明
+     */
+    private String desc;
+
+    JsonBufferPoolEnum(String desc) {
+        this.desc = desc;
+    }
+}
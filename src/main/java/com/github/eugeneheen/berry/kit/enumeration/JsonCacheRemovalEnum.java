@@ -0,0 +1,41 @@
+package com.github.eugeneheen.berry.kit.enumeration;
+
+import lombok.Getter;
+
+/**
+ * <p>Json工具箱序列化缓存条目的移除原因枚举定义</p>
+ *
+ * @author Eugene
+ */
+@Getter
+public enum JsonCacheRemovalEnum {
+    /**
+     * 调用方主动失效
+     */
+    EXPLICIT("主动失效"),
+    /**
+     * 版本号变更，条目被新版本的序列化结果替换
+     */
+    REPLACED("版本变更"),
+    /**
+     * 条目数量超过上限，按最近最少使用淘汰
+     */
+    SIZE("超过数量上限"),
+    /**
+     * 序列化结果的总字节数超过上限，按最近最少使用淘汰
+     */
+    WEIGHT("超过容量上限"),
+    /**
+     * 按对象身份缓存的对象已被GC回收
+     */
+    COLLECTED("对象已被回收");
+
+    /**
+     * 原因说明
+     */
+    private String desc;
+
+    JsonCacheRemovalEnum(String desc) {
+        this.desc = desc;
+    }
+}
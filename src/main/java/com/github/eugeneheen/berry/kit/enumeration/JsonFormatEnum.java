@@ -0,0 +1,43 @@
+package com.github.eugeneheen.berry.kit.enumeration;
+
+import lombok.Getter;
+
+/**
+ * <p>Json工具箱支持的数据格式枚举，二进制格式与JSON共用相同的数据模型与POJO注解</p>
+ *
+ * @author Eugene
+ */
+@Getter
+public enum JsonFormatEnum {
+    /**
+     * JSON文本格式
+     */
+    JSON("com.fasterxml.jackson.core.JsonFactory", false),
+    /**
+     * Smile二进制JSON格式，依赖com.fasterxml.jackson.dataformat:jackson-dataformat-smile
+     */
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory", true),
+    /**
+     * CBOR二进制格式（RFC 7049），依赖com.fasterxml.jackson.dataformat:jackson-dataformat-cbor
+     */
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory", true),
+    /**
+     * MessagePack二进制格式，可选依赖org.msgpack:jackson-dataformat-msgpack
+     */
+    MESSAGE_PACK("org.msgpack.jackson.dataformat.MessagePackFactory", true);
+
+    /**
+     * 数据格式对应的Jackson JsonFactory实现类名
+     */
+    private String factoryClassName;
+
+    /**
+     * 是否为二进制格式，二进制格式不支持字符串形式的读写
+     */
+    private boolean binary;
+
+    JsonFormatEnum(String factoryClassName, boolean binary) {
+        this.factoryClassName = factoryClassName;
+        this.binary = binary;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.eugeneheen.berry.kit.exception;
+
+/**
+ * 批量Http请求发生异常<br>
+ * @author Eugene
+ */
+public class HttpBatchException extends RuntimeException {
+    public HttpBatchException() {
+        super();
+    }
+
+    public HttpBatchException(String message) {
+        super(message);
+    }
+
+    public HttpBatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
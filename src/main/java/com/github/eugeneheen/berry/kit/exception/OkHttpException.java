@@ -0,0 +1,19 @@
+package com.github.eugeneheen.berry.kit.exception;
+
+/**
+ * OkHttp工具箱操作发生异常<br>
+ * @author Eugene
+ */
+public class OkHttpException extends RuntimeException {
+    public OkHttpException() {
+        super();
+    }
+
+    public OkHttpException(String message) {
+        super(message);
+    }
+
+    public OkHttpException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,202 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import com.github.eugeneheen.berry.kit.exception.HttpComponentsException;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * 使用Apache HttpAsyncClient实现的异步Http客户端工具箱，基于NIO的非阻塞请求执行，结果通过CompletableFuture返回。
+ * 请求在等待连接与响应期间不占用调用线程，由少量I/O线程完成全部网络读写，适用于同时向上游发起大量请求的场景。
+ * </p>
+ * <p>
+ * 请求对象可通过{@link HttpComponentsClientKit}的createHttpGet、createHttpPost等方法创建。响应正文在完成时已全部读入内存，
+ * 可直接通过{@link HttpResponseKit}的方法获取，无需关闭响应；超过连接池上限的请求在连接池中排队，不阻塞线程。
+ * 回调在I/O线程中执行，耗时的后续处理应通过thenApplyAsync等方法切换至其他线程池。
+ * </p>
+ * <p>
+ * 通过{@code new HttpAsyncClientKit()}或{@link #shared()}获取的工具箱共用同一个默认客户端，JVM退出时自动关闭；
+ * 需要独立的I/O线程数、连接数上限等配置时，通过{@link HttpAsyncClientKitBuilder}创建，使用完毕后调用{@link #close()}释放。
+ * </p>
+ *
+ * @author Eugene
+ */
+public class HttpAsyncClientKit extends HttpResponseKit implements Closeable {
+
+    /**
+     * 长期持有并已启动的异步Http客户端，所有请求共用
+     */
+    private final CloseableHttpAsyncClient httpAsyncClient;
+
+    /**
+     * 异步Http客户端使用的连接池
+     */
+    private final PoolingNHttpClientConnectionManager connectionManager;
+
+    /**
+     * 是否可通过close方法关闭，共用默认客户端的工具箱不可关闭
+     */
+    private final boolean closeable;
+
+    /**
+     * 创建共用默认客户端的异步Http客户端工具箱，多次创建不会产生新的客户端与I/O线程。
+     */
+    public HttpAsyncClientKit() {
+        this(SharedHolder.POOLED, false);
+    }
+
+    /**
+     * 创建持有独立客户端的异步Http客户端工具箱，由{@link HttpAsyncClientKitBuilder}调用。
+     *
+     * @param httpAsyncClient   已启动的异步Http客户端。
+     * @param connectionManager 异步Http客户端使用的连接池。
+     */
+    HttpAsyncClientKit(CloseableHttpAsyncClient httpAsyncClient, PoolingNHttpClientConnectionManager connectionManager) {
+        this.httpAsyncClient = httpAsyncClient;
+        this.connectionManager = connectionManager;
+        this.closeable = true;
+    }
+
+    private HttpAsyncClientKit(HttpAsyncClientKit pooled, boolean closeable) {
+        this.httpAsyncClient = pooled.httpAsyncClient;
+        this.connectionManager = pooled.connectionManager;
+        this.closeable = closeable;
+    }
+
+    /**
+     * 获取共用默认客户端的异步Http客户端工具箱，首次调用时创建，此后始终返回同一实例。
+     *
+     * @return 共享异步Http客户端工具箱。
+     */
+    public static HttpAsyncClientKit shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * 获取工具箱长期持有的异步Http客户端，由工具箱负责关闭，调用方不可关闭。
+     *
+     * @return 异步Http客户端对象（CloseableHttpAsyncClient）。
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return this.httpAsyncClient;
+    }
+
+    /**
+     * 获取连接池的统计数据，包括使用中、空闲、排队等待中的连接数。
+     *
+     * @return 连接池统计数据。
+     */
+    public PoolStats getPoolStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * 异步执行Http请求。取消返回的CompletableFuture时同时取消请求。
+     *
+     * @param request Http请求对象，兼容HttpGet、HttpPost等请求对象。
+     * @return 响应对象的CompletableFuture，请求失败时以HttpComponentsException异常完成。
+     */
+    public CompletableFuture<HttpResponse> executeAsync(HttpUriRequest request) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        Future<HttpResponse> execution;
+        try {
+            execution = this.httpAsyncClient.execute(request, new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse response) {
+                    future.complete(response);
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    future.completeExceptionally(new HttpComponentsException("Http异步请求异常！", e));
+                }
+
+                @Override
+                public void cancelled() {
+                    future.cancel(false);
+                }
+            });
+        } catch (IllegalStateException e) {
+            future.completeExceptionally(new HttpComponentsException("异步Http客户端已关闭！", e));
+            return future;
+        }
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                execution.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 简洁异步HttpGet请求处理
+     *
+     * @param url 请求的URL地址
+     * @return HttpGet请求响应报文的CompletableFuture
+     */
+    public CompletableFuture<String> doGetAsync(String url) {
+        return this.executeAsync(new HttpGet(url)).thenApply(response -> this.getStringContent(response, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 简洁异步HttpPost请求处理
+     *
+     * @param url 请求的URL地址
+     * @return HttpPost请求响应报文的CompletableFuture
+     */
+    public CompletableFuture<String> doPostAsync(String url) {
+        return this.executeAsync(new HttpPost(url)).thenApply(response -> this.getStringContent(response, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 简洁异步HttpPost请求处理
+     *
+     * @param url  请求的URL地址
+     * @param data 请求数据，使用UTF-8编码
+     * @return HttpPost请求响应报文的CompletableFuture
+     */
+    public CompletableFuture<String> doPostAsync(String url, String data) {
+        HttpPost httpPost = new HttpPost(url);
+        httpPost.setEntity(new StringEntity(data, StandardCharsets.UTF_8));
+        return this.executeAsync(httpPost).thenApply(response -> this.getStringContent(response, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 关闭工具箱持有的异步Http客户端、连接池及I/O线程，未完成的请求将失败，可重复调用。
+     * 共用默认客户端的工具箱调用本方法无效果，默认客户端在JVM退出时关闭。
+     */
+    @Override
+    public void close() {
+        if (!this.closeable) {
+            return;
+        }
+        try {
+            this.httpAsyncClient.close();
+        } catch (IOException e) {
+            throw new HttpComponentsException("异步Http客户端，关闭异常！", e);
+        }
+    }
+
+    /**
+     * 默认客户端的延迟初始化持有类
+     */
+    private static class SharedHolder {
+
+        private static final HttpAsyncClientKit POOLED = HttpAsyncClientKitBuilder.newHttpAsyncClientKitBuilder().shutdownHook(true).build();
+
+        private static final HttpAsyncClientKit INSTANCE = new HttpAsyncClientKit(POOLED, false);
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import com.github.eugeneheen.berry.kit.exception.HttpComponentsException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>异步Http客户端工具箱构造器，用于创建持有独立客户端、连接池与I/O线程的{@link HttpAsyncClientKit}。</p>
+ * <pre>
+ * HttpAsyncClientKit asyncKit = HttpAsyncClientKitBuilder.newHttpAsyncClientKitBuilder().ioThreads(2).maxTotal(2000).maxPerRoute(500).build();
+ * </pre>
+ * <p>创建的异步Http客户端工具箱使用完毕后需调用{@link HttpAsyncClientKit#close()}释放，或通过{@link #shutdownHook(boolean)}在JVM退出时关闭。</p>
+ *
+ * @author Eugene
+ */
+public class HttpAsyncClientKitBuilder {
+
+    /**
+     * I/O线程数
+     */
+    private int ioThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 连接池最大连接数
+     */
+    private int maxTotal = HttpComponentsClientKitBuilder.DEFAULT_MAX_TOTAL;
+
+    /**
+     * 每个路由最大连接数
+     */
+    private int maxPerRoute = HttpComponentsClientKitBuilder.DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * 连接保持时间，单位毫秒
+     */
+    private long keepAlive = HttpComponentsClientKitBuilder.DEFAULT_KEEP_ALIVE;
+
+    /**
+     * 从连接池获取连接的超时时间，单位毫秒
+     */
+    private int connectionRequestTimeout = HttpComponentsClientKitBuilder.DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+    /**
+     * 建立连接的超时时间，单位毫秒，-1为系统默认
+     */
+    private int connectTimeout = -1;
+
+    /**
+     * 读取数据的超时时间，单位毫秒，-1为系统默认
+     */
+    private int socketTimeout = -1;
+
+    /**
+     * 是否在JVM退出时关闭客户端
+     */
+    private boolean shutdownHook;
+
+    private HttpAsyncClientKitBuilder() {
+
+    }
+
+    public static HttpAsyncClientKitBuilder newHttpAsyncClientKitBuilder() {
+        return new HttpAsyncClientKitBuilder();
+    }
+
+    /**
+     * 指定I/O线程数，默认为处理器数量。I/O线程只负责网络读写，线程数与并发请求数无关
+     *
+     * @param ioThreads I/O线程数
+     * @return 构造器
+     */
+    public HttpAsyncClientKitBuilder ioThreads(int ioThreads) {
+        this.ioThreads = ioThreads;
+        return this;
+    }
+
+    /**
+     * 指定连接池最大连接数，默认为200，超过上限的请求在连接池中排队
+     *
+     * @param maxTotal 最大连接数
+     * @return 构造器
+     */
+    public HttpAsyncClientKitBuilder maxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    /**
+     * 指定每个路由（协议、主机、端口）的最大连接数，默认为20
+     *
+     * @param maxPerRoute 每个路由最大连接数
+     * @return 构造器
+     */
+    public HttpAsyncClientKitBuilder maxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * 指定连接保持时间，默认为30秒。响应头Keep-Alive指定的时间更短时以响应头为准
+     *
+     * @param keepAlive 连接保持时间
+     * @param unit 时间单位
+     * @return 构造器
+     */
+    public HttpAsyncClientKitBuilder keepAlive(long keepAlive, TimeUnit unit) {
+        this.keepAlive = unit.toMillis(keepAlive);
+        return this;
+    }
+
+    /**
+     * 指定超时时间，单位毫秒
+     *
+     * @param connectionRequestTimeout 在连接池中排队等待连接的超时时间，默认为10秒
+     * @param connectTimeout 建立连接的超时时间，-1为系统默认
+     * @param socketTimeout 等待数据的超时时间，-1为系统默认
+     * @return 构造器
+     */
+    public HttpAsyncClientKitBuilder timeout(int connectionRequestTimeout, int connectTimeout, int socketTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        this.connectTimeout = connectTimeout;
+        this.socketTimeout = socketTimeout;
+        return this;
+    }
+
+    /**
+     * 是否在JVM退出时自动关闭客户端，默认不开启
+     *
+     * @param shutdownHook 是否开启
+     * @return 构造器
+     */
+    public HttpAsyncClientKitBuilder shutdownHook(boolean shutdownHook) {
+        this.shutdownHook = shutdownHook;
+        return this;
+    }
+
+    /**
+     * 创建并启动持有独立客户端的异步Http客户端工具箱
+     *
+     * @return 异步Http客户端工具箱
+     * @throws HttpComponentsException I/O线程创建失败时抛出异常
+     */
+    public HttpAsyncClientKit build() throws HttpComponentsException {
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(this.ioThreads)
+                .setConnectTimeout(Math.max(this.connectTimeout, 0))
+                .setSoTimeout(Math.max(this.socketTimeout, 0))
+                .build();
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig));
+        } catch (IOReactorException e) {
+            throw new HttpComponentsException("异步Http客户端，创建I/O线程异常！", e);
+        }
+        connectionManager.setMaxTotal(this.maxTotal);
+        connectionManager.setDefaultMaxPerRoute(this.maxPerRoute);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(this.connectionRequestTimeout)
+                .setConnectTimeout(this.connectTimeout)
+                .setSocketTimeout(this.socketTimeout)
+                .build();
+        CloseableHttpAsyncClient httpAsyncClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(this.createKeepAliveStrategy())
+                .build();
+        httpAsyncClient.start();
+        HttpAsyncClientKit asyncKit = new HttpAsyncClientKit(httpAsyncClient, connectionManager);
+        if (this.shutdownHook) {
+            Runtime.getRuntime().addShutdownHook(new Thread(asyncKit::close, "berry-kit-http-async-shutdown"));
+        }
+        return asyncKit;
+    }
+
+    /**
+     * 创建连接保持策略，响应头Keep-Alive指定的时间与配置的保持时间取较小值
+     *
+     * @return 连接保持策略
+     */
+    private ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        final long keepAlive = this.keepAlive;
+        return (response, context) -> {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+        };
+    }
+}
@@ -0,0 +1,373 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import com.github.eugeneheen.berry.kit.enumeration.HttpBatchModeEnum;
+import com.github.eugeneheen.berry.kit.exception.HttpBatchException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>批量Http请求工具箱，并发执行一批请求并按请求顺序收集结果，批量请求的总耗时接近其中最慢的请求，而不是全部请求耗时之和。</p>
+ * <p>同时执行的请求数受总并发数与每个主机（协议、主机、端口）的并发数限制，超过限制的请求按顺序排队，
+ * 某个主机达到上限时不阻塞发往其他主机的请求。请求通过{@link IHttpClientKit}执行，可使用{@link HttpComponentsClientKit}或{@link OkHttpClientKit}，
+ * 每个主机的并发数不应超过Http客户端连接池的每个路由最大连接数。</p>
+ * <pre>
+ * HttpBatchKit&lt;HttpRequestBase, HttpResponse&gt; batchKit = new HttpBatchKit&lt;&gt;(HttpComponentsClientKit.shared(), 64, 8);
+ * List&lt;HttpBatchResult&lt;HttpRequestBase, String&gt;&gt; results = batchKit.doGetAll(urls, HttpBatchModeEnum.COLLECT_ALL);
+ * </pre>
+ * <p>{@link HttpComponentsClientKitBuilder}默认的连接与读取超时时间为系统默认（通常为无限等待），
+ * 需要限制批量请求的总耗时时，应使用带有时限参数的方法，超过时限尚未完成的请求记录为{@link TimeoutException}。</p>
+ * <p>实例线程安全，每次批量请求使用独立的线程执行。</p>
+ *
+ * @param <T> 请求类型
+ * @param <R> 响应类型
+ * @author Eugene
+ */
+public class HttpBatchKit<T, R> {
+
+    /**
+     * 默认的总并发数
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    /**
+     * 默认的每个主机并发数，与Http客户端连接池默认的每个路由最大连接数一致
+     */
+    public static final int DEFAULT_MAX_PER_HOST = HttpComponentsClientKitBuilder.DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * 执行请求的Http客户端工具箱
+     */
+    private final IHttpClientKit<T, R> httpKit;
+
+    /**
+     * 总并发数
+     */
+    private final int maxConcurrency;
+
+    /**
+     * 每个主机的并发数
+     */
+    private final int maxPerHost;
+
+    /**
+     * 批量请求执行线程的序号
+     */
+    private final AtomicInteger threadIndex = new AtomicInteger();
+
+    /**
+     * 使用默认的并发数限制创建批量Http请求工具箱
+     *
+     * @param httpKit 执行请求的Http客户端工具箱
+     */
+    public HttpBatchKit(IHttpClientKit<T, R> httpKit) {
+        this(httpKit, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_PER_HOST);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param httpKit 执行请求的Http客户端工具箱
+     * @param maxConcurrency 总并发数
+     * @param maxPerHost 每个主机的并发数
+     */
+    public HttpBatchKit(IHttpClientKit<T, R> httpKit, int maxConcurrency, int maxPerHost) {
+        this.httpKit = httpKit;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPerHost = maxPerHost;
+    }
+
+    /**
+     * 并发执行一批请求，每个请求的响应由handler处理后关闭，等待全部请求完成，不限制批量请求的总耗时
+     *
+     * @param requests 请求对象
+     * @param handler 响应处理方法，例如读取响应正文并转换为对象，在执行请求的线程中调用
+     * @param mode 失败处理模式
+     * @param <V> 响应处理结果类型
+     * @return 按请求顺序排列的执行结果
+     * @throws HttpBatchException FAIL_FAST模式下任一请求失败，或等待时线程被中断
+     */
+    public <V> List<HttpBatchResult<T, V>> execute(Collection<? extends T> requests, Function<? super R, ? extends V> handler, HttpBatchModeEnum mode) throws HttpBatchException {
+        return this.execute(requests, handler, mode, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 在时限内并发执行一批请求，每个请求的响应由handler处理后关闭，超过时限尚未完成的请求记录为{@link TimeoutException}，
+     * 并中断仍在执行的请求线程
+     *
+     * @param requests 请求对象
+     * @param handler 响应处理方法，例如读取响应正文并转换为对象，在执行请求的线程中调用
+     * @param mode 失败处理模式，FAIL_FAST模式下超过时限视为请求失败
+     * @param timeout 批量请求的时限，小于等于0时不限制
+     * @param unit 时限的时间单位
+     * @param <V> 响应处理结果类型
+     * @return 按请求顺序排列的执行结果
+     * @throws HttpBatchException FAIL_FAST模式下任一请求失败或超过时限，或等待时线程被中断
+     */
+    public <V> List<HttpBatchResult<T, V>> execute(Collection<? extends T> requests, Function<? super R, ? extends V> handler, HttpBatchModeEnum mode,
+                                                   long timeout, TimeUnit unit) throws HttpBatchException {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Batch<V> batch = new Batch<>(new ArrayList<>(requests), handler, mode == HttpBatchModeEnum.FAIL_FAST);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.maxConcurrency, requests.size()), runnable -> {
+            Thread thread = new Thread(runnable, "berry-kit-http-batch-" + this.threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            batch.await(executor, unit.toNanos(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpBatchException("批量Http请求，等待结果时线程被中断！", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        HttpBatchResult<T, V> failure = batch.failure;
+        if (failure != null) {
+            throw new HttpBatchException("批量Http请求，第" + (failure.getIndex() + 1) + "个请求：" + this.httpKit.getRequestURI(failure.getRequest())
+                    + "，执行失败！", failure.getError());
+        }
+        return Arrays.asList(batch.results);
+    }
+
+    /**
+     * 并发执行一批Get请求，响应正文按UTF-8编码读取为字符串
+     *
+     * @param urls 请求的URL地址
+     * @param mode 失败处理模式
+     * @return 按请求顺序排列的执行结果
+     * @throws HttpBatchException FAIL_FAST模式下任一请求失败，或等待时线程被中断
+     */
+    public List<HttpBatchResult<T, String>> doGetAll(Collection<String> urls, HttpBatchModeEnum mode) throws HttpBatchException {
+        return this.doGetAll(urls, mode, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 在时限内并发执行一批Get请求，响应正文按UTF-8编码读取为字符串，超过时限尚未完成的请求记录为{@link TimeoutException}
+     *
+     * @param urls 请求的URL地址
+     * @param mode 失败处理模式
+     * @param timeout 批量请求的时限，小于等于0时不限制
+     * @param unit 时限的时间单位
+     * @return 按请求顺序排列的执行结果
+     * @throws HttpBatchException FAIL_FAST模式下任一请求失败或超过时限，或等待时线程被中断
+     */
+    public List<HttpBatchResult<T, String>> doGetAll(Collection<String> urls, HttpBatchModeEnum mode, long timeout, TimeUnit unit) throws HttpBatchException {
+        List<T> requests = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            requests.add(this.httpKit.createHttpGet(url));
+        }
+        return this.execute(requests, response -> this.httpKit.getStringContent(response, StandardCharsets.UTF_8), mode, timeout, unit);
+    }
+
+    /**
+     * 获取请求的主机，作为每个主机并发数的计数键
+     */
+    private String hostOf(T request) {
+        URI uri = this.httpKit.getRequestURI(request);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    /**
+     * 一次批量请求的调度状态，所有状态的读写均持有本对象的锁
+     *
+     * @param <V> 响应处理结果类型
+     */
+    private final class Batch<V> {
+
+        private final List<T> requests;
+
+        private final String[] hosts;
+
+        private final Function<? super R, ? extends V> handler;
+
+        private final boolean failFast;
+
+        private final HttpBatchResult<T, V>[] results;
+
+        /**
+         * 请求开始执行的时间，单位纳秒，尚未开始执行的请求为0
+         */
+        private final long[] starts;
+
+        /**
+         * 尚未开始执行的请求序号，按请求顺序排列
+         */
+        private final Deque<Integer> pending = new ArrayDeque<>();
+
+        /**
+         * 每个主机正在执行的请求数
+         */
+        private final Map<String, Integer> activePerHost = new HashMap<>();
+
+        /**
+         * 正在执行的请求数
+         */
+        private int active;
+
+        /**
+         * 尚未完成的请求数
+         */
+        private int remaining;
+
+        /**
+         * FAIL_FAST模式下第一个失败的请求
+         */
+        private HttpBatchResult<T, V> failure;
+
+        /**
+         * 是否已超过时限，超过后不再记录仍在执行的请求的结果
+         */
+        private boolean expired;
+
+        private ExecutorService executor;
+
+        @SuppressWarnings("unchecked")
+        private Batch(List<T> requests, Function<? super R, ? extends V> handler, boolean failFast) {
+            this.requests = requests;
+            this.handler = handler;
+            this.failFast = failFast;
+            this.results = new HttpBatchResult[requests.size()];
+            this.starts = new long[requests.size()];
+            this.hosts = new String[requests.size()];
+            for (int i = 0; i < requests.size(); i++) {
+                this.hosts[i] = HttpBatchKit.this.hostOf(requests.get(i));
+                this.pending.add(i);
+            }
+            this.remaining = requests.size();
+        }
+
+        /**
+         * 开始执行并等待全部请求完成，FAIL_FAST模式下出现失败时立即返回
+         *
+         * @param timeout 时限，单位纳秒，小于等于0时不限制
+         */
+        private synchronized void await(ExecutorService executor, long timeout) throws InterruptedException {
+            this.executor = executor;
+            this.dispatch();
+            long deadline = System.nanoTime() + timeout;
+            while (this.remaining > 0 && this.failure == null) {
+                if (timeout <= 0) {
+                    this.wait();
+                    continue;
+                }
+                long wait = deadline - System.nanoTime();
+                if (wait <= 0) {
+                    this.expire();
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, wait);
+            }
+        }
+
+        /**
+         * 超过时限，将尚未完成的请求记录为超时，FAIL_FAST模式下以第一个超时的请求作为失败
+         */
+        private void expire() {
+            this.expired = true;
+            this.pending.clear();
+            long now = System.nanoTime();
+            for (int i = 0; i < this.results.length; i++) {
+                if (this.results[i] != null) {
+                    continue;
+                }
+                TimeoutException error = new TimeoutException("批量Http请求，超过批量请求的时限，请求尚未完成");
+                this.results[i] = new HttpBatchResult<>(i, this.requests.get(i), null, error, this.starts[i] == 0 ? 0 : now - this.starts[i]);
+                if (this.failFast && this.failure == null) {
+                    this.failure = this.results[i];
+                }
+            }
+        }
+
+        /**
+         * 按请求顺序提交并发数限制内的请求，跳过已达到并发上限的主机
+         */
+        private void dispatch() {
+            Iterator<Integer> iterator = this.pending.iterator();
+            while (this.active < HttpBatchKit.this.maxConcurrency && iterator.hasNext()) {
+                int index = iterator.next();
+                String host = this.hosts[index];
+                int hostActive = this.activePerHost.getOrDefault(host, 0);
+                if (hostActive >= HttpBatchKit.this.maxPerHost) {
+                    continue;
+                }
+                iterator.remove();
+                this.activePerHost.put(host, hostActive + 1);
+                this.active++;
+                this.starts[index] = System.nanoTime();
+                this.executor.execute(() -> this.run(index));
+            }
+        }
+
+        private void run(int index) {
+            T request = this.requests.get(index);
+            long start = System.nanoTime();
+            V value = null;
+            Throwable error = null;
+            try {
+                R response = HttpBatchKit.this.httpKit.execute(request);
+                try {
+                    value = this.handler.apply(response);
+                } finally {
+                    closeQuietly(response);
+                }
+            } catch (Throwable e) {
+                // Error同样需要记录并完成请求，否则尚未完成的请求数无法归零，调用线程将一直等待
+                error = e;
+            }
+            this.complete(new HttpBatchResult<>(index, request, value, error, System.nanoTime() - start));
+        }
+
+        private synchronized void complete(HttpBatchResult<T, V> result) {
+            if (this.expired) {
+                return;
+            }
+            int index = result.getIndex();
+            this.results[index] = result;
+            this.active--;
+            this.remaining--;
+            this.activePerHost.merge(this.hosts[index], -1, Integer::sum);
+            if (!result.isSuccess() && this.failFast && this.failure == null) {
+                this.failure = result;
+                this.pending.clear();
+            }
+            if (this.remaining == 0 || this.failure != null) {
+                this.notifyAll();
+            } else {
+                this.dispatch();
+            }
+        }
+    }
+
+    /**
+     * 关闭handler处理后的响应，响应正文已读取完毕时关闭无副作用
+     */
+    private static void closeQuietly(Object response) {
+        if (response instanceof Closeable) {
+            try {
+                ((Closeable) response).close();
+            } catch (IOException e) {
+                // 响应已处理完毕，关闭失败不影响结果
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>批量Http请求中单个请求的执行结果，包括处理后的响应结果或异常，以及请求耗时。</p>
+ *
+ * @param <T> 请求类型
+ * @param <V> 响应处理结果类型
+ * @author Eugene
+ */
+public class HttpBatchResult<T, V> {
+
+    /**
+     * 请求在批量请求中的序号，从0开始
+     */
+    private final int index;
+
+    /**
+     * 请求对象
+     */
+    private final T request;
+
+    /**
+     * 响应处理结果，请求失败时为null
+     */
+    private final V value;
+
+    /**
+     * 请求或响应处理时发生的异常或错误，请求成功时为null
+     */
+    private final Throwable error;
+
+    /**
+     * 从开始执行请求至响应处理完成的耗时，单位纳秒，不包含排队等待的时间
+     */
+    private final long latency;
+
+    HttpBatchResult(int index, T request, V value, Throwable error, long latency) {
+        this.index = index;
+        this.request = request;
+        this.value = value;
+        this.error = error;
+        this.latency = latency;
+    }
+
+    /**
+     * 获取请求在批量请求中的序号
+     *
+     * @return 序号，从0开始
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * 获取请求对象
+     *
+     * @return 请求对象
+     */
+    public T getRequest() {
+        return this.request;
+    }
+
+    /**
+     * 获取响应处理结果
+     *
+     * @return 响应处理结果，请求失败时为null
+     */
+    public V getValue() {
+        return this.value;
+    }
+
+    /**
+     * 获取请求或响应处理时发生的异常，响应处理方法抛出的Error（例如AssertionError）同样记录在此
+     *
+     * @return 异常或错误，请求成功时为null
+     */
+    public Throwable getError() {
+        return this.error;
+    }
+
+    /**
+     * 请求是否成功
+     *
+     * @return 成功返回true
+     */
+    public boolean isSuccess() {
+        return this.error == null;
+    }
+
+    /**
+     * 获取从开始执行请求至响应处理完成的耗时，不包含排队等待并发名额的时间
+     *
+     * @param unit 时间单位
+     * @return 耗时
+     */
+    public long getLatency(TimeUnit unit) {
+        return unit.convert(this.latency, TimeUnit.NANOSECONDS);
+    }
+}
@@ -2,6 +2,7 @@ package com.github.eugeneheen.berry.kit.net;
 
 import com.github.eugeneheen.berry.kit.exception.HttpComponentsException;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.*;
@@ -11,7 +12,9 @@ import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
@@ -29,14 +32,18 @@ import java.util.Map;
  * 使用Apache Commons项目的HttpComponents实现的Http客户端工具箱，用于Http访问便捷操作。<br>
  * Http工具箱使用流程：<br>
  * 1 创建请求类型对象，例如：HttpGet或HttpPost请求对象。<br>
- * 2 创建HttpClient对象。<br>
- * 3 使用doGet方法执行HttpGet请求，使用doPost方法执行HttpPost请求，获取HttpResponse对象。
+ * 2 使用doGet方法执行HttpGet请求，使用doPost方法执行HttpPost请求，获取HttpResponse对象。
  * Get请求用户需要自定义创建带参数的URI对象。Post请求如果存在参数，需要通过HttpEntity设置参数。<br>
- * 4 通过HttpResponse对象获取响应内容及其他响应项。<br>
+ * 3 通过HttpResponse对象获取响应内容及其他响应项。<br>
+ * </p>
+ * <p>
+ * 请求通过长期持有的Http客户端执行，连接由连接池管理并在请求间复用，避免每次请求重新建立TCP及TLS连接。
+ * 通过{@code new HttpComponentsClientKit()}或{@link #shared()}获取的工具箱共用同一个默认连接池，JVM退出时自动关闭；
+ * 需要独立的连接数上限、保持时间等配置时，通过{@link HttpComponentsClientKitBuilder}创建，使用完毕后调用{@link #close()}释放连接池。
  * </p>
  * Created by Eugene on 2016/10/24.
  */
-public class HttpComponentsClientKit extends HttpResponseKit {
+public class HttpComponentsClientKit extends HttpResponseKit implements IHttpClientKit<HttpRequestBase, HttpResponse> {
 
     /**
      * Http协议。
@@ -49,7 +56,92 @@ public class HttpComponentsClientKit extends HttpResponseKit {
     public final static String HTTPS_SCHEME = "https";
 
     /**
-     * 创建一个默认的Http客户端对象。
+     * 长期持有的Http客户端，所有请求共用
+     */
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Http客户端使用的连接池
+     */
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Http响应缓存，未开启时为null
+     */
+    private final HttpResponseCache responseCache;
+
+    /**
+     * 是否可通过close方法关闭，共用默认连接池的工具箱不可关闭
+     */
+    private final boolean closeable;
+
+    /**
+     * 创建共用默认连接池的Http客户端工具箱，多次创建不会产生新的连接池。
+     */
+    public HttpComponentsClientKit() {
+        this(SharedHolder.POOLED, false);
+    }
+
+    /**
+     * 创建持有独立连接池的Http客户端工具箱，由{@link HttpComponentsClientKitBuilder}调用。
+     *
+     * @param httpClient        Http客户端。
+     * @param connectionManager Http客户端使用的连接池。
+     * @param responseCache     Http响应缓存，不开启时为null。
+     */
+    HttpComponentsClientKit(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager, HttpResponseCache responseCache) {
+        this.httpClient = httpClient;
+        this.connectionManager = connectionManager;
+        this.responseCache = responseCache;
+        this.closeable = true;
+    }
+
+    private HttpComponentsClientKit(HttpComponentsClientKit pooled, boolean closeable) {
+        this.httpClient = pooled.httpClient;
+        this.connectionManager = pooled.connectionManager;
+        this.responseCache = pooled.responseCache;
+        this.closeable = closeable;
+    }
+
+    /**
+     * 获取共用默认连接池的Http客户端工具箱，首次调用时创建，此后始终返回同一实例。
+     *
+     * @return 共享Http客户端工具箱。
+     */
+    public static HttpComponentsClientKit shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * 获取工具箱长期持有的Http客户端，由工具箱负责关闭，调用方不可关闭。
+     *
+     * @return Http客户端对象（CloseableHttpClient）。
+     */
+    public CloseableHttpClient getHttpClient() {
+        return this.httpClient;
+    }
+
+    /**
+     * 获取连接池的统计数据，包括使用中、空闲、等待中的连接数。
+     *
+     * @return 连接池统计数据。
+     */
+    public PoolStats getPoolStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * 获取Http响应缓存，可查看命中统计或主动失效缓存的响应。
+     *
+     * @return Http响应缓存，未通过{@link HttpComponentsClientKitBuilder#responseCache(long, int)}开启时返回null。
+     */
+    public HttpResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
+    /**
+     * 创建一个新的默认Http客户端对象，不使用工具箱的连接池，由调用方通过{@link #close(CloseableHttpClient)}关闭。
+     * 执行请求时优先使用{@link #execute(HttpRequestBase)}，复用工具箱的连接池。
      *
      * @return Http客户端对象（CloseableHttpClient）。
      */
@@ -259,16 +351,32 @@ public class HttpComponentsClientKit extends HttpResponseKit {
     }
 
     /**
-     * 执行Http请求
+     * 获取请求的URI。
+     *
+     * @param httpRequestBase Http请求类型基础对象。
+     * @return 请求的URI。
+     */
+    @Override
+    public URI getRequestURI(HttpRequestBase httpRequestBase) {
+        return httpRequestBase.getURI();
+    }
+
+    /**
+     * 执行Http请求，使用工具箱的连接池。
+     * 读取完响应正文或关闭响应对象后连接归还连接池，调用方需通过{@link #close(CloseableHttpResponse)}或{@link #consumeEntity}释放响应。
+     * 开启Http响应缓存时，Get请求按{@link HttpResponseCache}的规则使用缓存。
      *
      * @param httpRequestBase Http请求类型基础对象，兼容HttpGet和HttpPost请求对象。
      * @return CloseableHttpResponse响应对象
      */
     public CloseableHttpResponse execute(HttpRequestBase httpRequestBase) {
-        CloseableHttpClient client = this.creatHttpClient();
         CloseableHttpResponse response;
         try {
-            response = client.execute(httpRequestBase);
+            if (this.responseCache == null) {
+                response = this.httpClient.execute(httpRequestBase);
+            } else {
+                response = this.responseCache.execute(this.httpClient, httpRequestBase);
+            }
         } catch (IOException e) {
             throw new HttpComponentsException("HttpGet请求异常！", e);
         }
@@ -284,10 +392,8 @@ public class HttpComponentsClientKit extends HttpResponseKit {
     public String doGet(String url) {
         String responseContent;
         HttpGet httpGet = this.createHttpGet(url);
-        CloseableHttpResponse closeableHttpResponse = this.execute(httpGet);
-        HttpEntity httpEntity = closeableHttpResponse.getEntity();
-        try {
-            responseContent = EntityUtils.toString(httpEntity, StandardCharsets.UTF_8);
+        try (CloseableHttpResponse closeableHttpResponse = this.execute(httpGet)) {
+            responseContent = EntityUtils.toString(closeableHttpResponse.getEntity(), StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new HttpComponentsException("执行Http的Get请求，响应结果转换字符串异常！", e);
         }
@@ -297,16 +403,25 @@ public class HttpComponentsClientKit extends HttpResponseKit {
     public String doPost(String url) {
         String responseContent;
         HttpPost httpPost = this.createHttpPost(url);
-        CloseableHttpResponse closeableHttpResponse = this.execute(httpPost);
-        HttpEntity httpEntity = closeableHttpResponse.getEntity();
-        try {
-            responseContent = EntityUtils.toString(httpEntity, StandardCharsets.UTF_8);
+        try (CloseableHttpResponse closeableHttpResponse = this.execute(httpPost)) {
+            responseContent = EntityUtils.toString(closeableHttpResponse.getEntity(), StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new HttpComponentsException("执行Http的Post请求，响应结果转换字符串异常！", e);
         }
         return responseContent;
     }
 
+    /**
+     * 关闭工具箱持有的Http客户端及连接池，关闭后不可再执行请求，可重复调用。
+     * 共用默认连接池的工具箱调用本方法无效果，默认连接池在JVM退出时关闭。
+     */
+    @Override
+    public void close() {
+        if (this.closeable) {
+            this.close(this.httpClient);
+        }
+    }
+
     /**
      * 关闭Http客户端。
      *
@@ -336,4 +451,14 @@ public class HttpComponentsClientKit extends HttpResponseKit {
             }
         }
     }
+
+    /**
+     * 默认连接池的延迟初始化持有类
+     */
+    private static class SharedHolder {
+
+        private static final HttpComponentsClientKit POOLED = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder().shutdownHook(true).build();
+
+        private static final HttpComponentsClientKit INSTANCE = new HttpComponentsClientKit(POOLED, false);
+    }
 }
@@ -0,0 +1,281 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import com.github.eugeneheen.berry.kit.exception.HttpComponentsException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Http客户端工具箱构造器，用于创建持有独立连接池的{@link HttpComponentsClientKit}。</p>
+ * <pre>
+ * HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder().maxTotal(400).maxPerRoute(50).build();
+ * </pre>
+ * <p>创建的Http客户端工具箱使用完毕后需调用{@link HttpComponentsClientKit#close()}释放连接池，或通过{@link #shutdownHook(boolean)}在JVM退出时关闭。</p>
+ *
+ * @author Eugene
+ */
+public class HttpComponentsClientKitBuilder {
+
+    /**
+     * 默认的连接池最大连接数
+     */
+    public static final int DEFAULT_MAX_TOTAL = 200;
+
+    /**
+     * 默认的每个路由（协议、主机、端口）最大连接数
+     */
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+
+    /**
+     * 默认的连接保持时间，单位毫秒
+     */
+    public static final long DEFAULT_KEEP_ALIVE = 30 * 1000L;
+
+    /**
+     * 默认的空闲连接回收时间，单位毫秒
+     */
+    public static final long DEFAULT_MAX_IDLE_TIME = 60 * 1000L;
+
+    /**
+     * 默认的从连接池获取连接的超时时间，单位毫秒
+     */
+    public static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT = 10 * 1000;
+
+    /**
+     * 连接池最大连接数
+     */
+    private int maxTotal = DEFAULT_MAX_TOTAL;
+
+    /**
+     * 每个路由最大连接数
+     */
+    private int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * 连接保持时间，单位毫秒
+     */
+    private long keepAlive = DEFAULT_KEEP_ALIVE;
+
+    /**
+     * 空闲连接回收时间，单位毫秒
+     */
+    private long maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+    /**
+     * 连接复用前的有效性检查间隔，单位毫秒
+     */
+    private int validateAfterInactivity = 2000;
+
+    /**
+     * 从连接池获取连接的超时时间，单位毫秒
+     */
+    private int connectionRequestTimeout = DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+    /**
+     * 建立连接的超时时间，单位毫秒，-1为系统默认
+     */
+    private int connectTimeout = -1;
+
+    /**
+     * 读取数据的超时时间，单位毫秒，-1为系统默认
+     */
+    private int socketTimeout = -1;
+
+    /**
+     * 是否在JVM退出时关闭连接池
+     */
+    private boolean shutdownHook;
+
+    /**
+     * Http响应缓存内存层的总字节数上限，为0时不开启Http响应缓存
+     */
+    private long cacheMemoryBytes;
+
+    /**
+     * Http响应缓存单个条目响应正文的字节数上限
+     */
+    private int cacheMaxEntrySize;
+
+    /**
+     * Http响应缓存磁盘层目录，为null时不开启磁盘层
+     */
+    private Path cacheDirectory;
+
+    /**
+     * Http响应缓存磁盘层的总字节数上限
+     */
+    private long cacheDiskBytes;
+
+    private HttpComponentsClientKitBuilder() {
+
+    }
+
+    public static HttpComponentsClientKitBuilder newHttpComponentsClientKitBuilder() {
+        return new HttpComponentsClientKitBuilder();
+    }
+
+    /**
+     * 指定连接池最大连接数，默认为200
+     *
+     * @param maxTotal 最大连接数
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder maxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    /**
+     * 指定每个路由（协议、主机、端口）的最大连接数，默认为20，访问单一上游服务时应与最大连接数一致
+     *
+     * @param maxPerRoute 每个路由最大连接数
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder maxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * 指定连接保持时间，默认为30秒。响应头Keep-Alive指定的时间更短时以响应头为准，应小于上游服务的空闲连接超时时间
+     *
+     * @param keepAlive 连接保持时间
+     * @param unit 时间单位
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder keepAlive(long keepAlive, TimeUnit unit) {
+        this.keepAlive = unit.toMillis(keepAlive);
+        return this;
+    }
+
+    /**
+     * 指定空闲连接回收时间，默认为60秒。后台线程定期关闭空闲超过此时间或已过保持时间的连接
+     *
+     * @param maxIdleTime 空闲连接回收时间
+     * @param unit 时间单位
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder maxIdleTime(long maxIdleTime, TimeUnit unit) {
+        this.maxIdleTime = unit.toMillis(maxIdleTime);
+        return this;
+    }
+
+    /**
+     * 指定连接空闲多久后，复用前检查连接是否仍然有效，默认为2秒
+     *
+     * @param validateAfterInactivity 检查间隔，单位毫秒
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder validateAfterInactivity(int validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+        return this;
+    }
+
+    /**
+     * 指定超时时间，单位毫秒
+     *
+     * @param connectionRequestTimeout 从连接池获取连接的超时时间，默认为10秒，连接池耗尽时避免请求线程无限等待
+     * @param connectTimeout 建立连接的超时时间，-1为系统默认
+     * @param socketTimeout 读取数据的超时时间，-1为系统默认
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder timeout(int connectionRequestTimeout, int connectTimeout, int socketTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        this.connectTimeout = connectTimeout;
+        this.socketTimeout = socketTimeout;
+        return this;
+    }
+
+    /**
+     * 是否在JVM退出时自动关闭连接池，默认不开启
+     *
+     * @param shutdownHook 是否开启
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder shutdownHook(boolean shutdownHook) {
+        this.shutdownHook = shutdownHook;
+        return this;
+    }
+
+    /**
+     * <p>开启Http响应缓存，Get请求按响应头Cache-Control、Expires、ETag、Last-Modified缓存响应，新鲜的响应直接返回，过期的响应通过条件请求重新验证。</p>
+     * <p>命中统计可通过{@link HttpComponentsClientKit#getResponseCache()}查看。</p>
+     *
+     * @param maxMemoryBytes 内存层的总字节数上限
+     * @param maxEntrySize 单个条目响应正文的字节数上限，超过时不缓存，可使用{@link HttpResponseCache#DEFAULT_MAX_ENTRY_SIZE}
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder responseCache(long maxMemoryBytes, int maxEntrySize) {
+        this.cacheMemoryBytes = maxMemoryBytes;
+        this.cacheMaxEntrySize = maxEntrySize;
+        return this;
+    }
+
+    /**
+     * 开启带有磁盘层的Http响应缓存，内存层淘汰的条目仍可从磁盘层读取，JVM重启后磁盘层的条目继续使用
+     *
+     * @param maxMemoryBytes 内存层的总字节数上限
+     * @param maxEntrySize 单个条目响应正文的字节数上限，超过时不缓存
+     * @param directory 磁盘层目录，不存在时创建，不可由多个Http响应缓存共用
+     * @param maxDiskBytes 磁盘层的总字节数上限
+     * @return 构造器
+     */
+    public HttpComponentsClientKitBuilder responseCache(long maxMemoryBytes, int maxEntrySize, Path directory, long maxDiskBytes) {
+        this.responseCache(maxMemoryBytes, maxEntrySize);
+        this.cacheDirectory = directory;
+        this.cacheDiskBytes = maxDiskBytes;
+        return this;
+    }
+
+    /**
+     * 创建持有独立连接池的Http客户端工具箱
+     *
+     * @return Http客户端工具箱
+     * @throws HttpComponentsException Http响应缓存的磁盘层目录创建或读取失败时抛出异常
+     */
+    public HttpComponentsClientKit build() throws HttpComponentsException {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(this.maxTotal);
+        connectionManager.setDefaultMaxPerRoute(this.maxPerRoute);
+        connectionManager.setValidateAfterInactivity(this.validateAfterInactivity);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(this.connectionRequestTimeout)
+                .setConnectTimeout(this.connectTimeout)
+                .setSocketTimeout(this.socketTimeout)
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(this.createKeepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(this.maxIdleTime, TimeUnit.MILLISECONDS)
+                .build();
+        HttpResponseCache responseCache = this.cacheMemoryBytes > 0
+                ? new HttpResponseCache(this.cacheMemoryBytes, this.cacheMaxEntrySize, this.cacheDirectory, this.cacheDiskBytes)
+                : null;
+        HttpComponentsClientKit httpKit = new HttpComponentsClientKit(httpClient, connectionManager, responseCache);
+        if (this.shutdownHook) {
+            Runtime.getRuntime().addShutdownHook(new Thread(httpKit::close, "berry-kit-http-shutdown"));
+        }
+        return httpKit;
+    }
+
+    /**
+     * 创建连接保持策略，响应头Keep-Alive指定的时间与配置的保持时间取较小值
+     *
+     * @return 连接保持策略
+     */
+    private ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        final long keepAlive = this.keepAlive;
+        return (response, context) -> {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+        };
+    }
+}
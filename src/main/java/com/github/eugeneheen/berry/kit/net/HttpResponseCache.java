@@ -0,0 +1,923 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import com.github.eugeneheen.berry.kit.exception.HttpComponentsException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Http响应缓存，按RFC 7234私有缓存的规则缓存Get请求的响应，通过{@link HttpComponentsClientKitBuilder#responseCache(long, int)}为Http客户端工具箱开启。</p>
+ * <ul>
+ *     <li>新鲜度：按响应头Cache-Control的max-age、Expires计算，均未指定时按Last-Modified的10%推算；新鲜的响应直接返回，不访问网络；</li>
+ *     <li>重新验证：过期或带有no-cache的响应，存在ETag或Last-Modified时通过If-None-Match、If-Modified-Since发起条件请求，上游返回304时更新响应头并返回缓存的响应正文；</li>
+ *     <li>不缓存：响应头带有no-store、Vary为*、没有过期时间也没有验证器，或响应正文超过单个条目上限的响应；请求头带有no-store或调用方自行设置了条件请求头的请求不使用缓存；</li>
+ *     <li>失效：同一地址的Post、Put、Delete等请求成功后，缓存的响应失效。</li>
+ * </ul>
+ * <p>内存层按最近最少使用淘汰，总字节数不超过上限；可选的磁盘层将条目写入指定目录，JVM重启后仍可使用，同样按最近最少使用淘汰。
+ * 内存层未命中时从磁盘层读取并放回内存层。实例线程安全，可由多个Http客户端工具箱共用。</p>
+ *
+ * @author Eugene
+ */
+public class HttpResponseCache {
+
+    /**
+     * 默认的单个条目响应正文字节数上限
+     */
+    public static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    /**
+     * 磁盘层条目文件的后缀
+     */
+    private static final String FILE_SUFFIX = ".cache";
+
+    /**
+     * 磁盘层条目文件的格式版本
+     */
+    private static final int FILE_VERSION = 1;
+
+    /**
+     * 可缓存的响应状态码，RFC 7231中默认可缓存的状态码
+     */
+    private static final Set<Integer> CACHEABLE_STATUS = new HashSet<>(Arrays.asList(200, 203, 204, 300, 301, 404, 405, 410, 414, 501));
+
+    /**
+     * 执行后不使缓存失效的请求方法
+     */
+    private static final Set<String> SAFE_METHODS = new HashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS", "TRACE"));
+
+    /**
+     * 304响应中不用于更新缓存响应头的响应头，均为小写
+     */
+    private static final Set<String> NOT_UPDATED_HEADERS = new HashSet<>(Arrays.asList("content-length", "content-encoding", "transfer-encoding", "content-range"));
+
+    /**
+     * 逐跳响应头，只对当前连接有效，不保存至缓存，均为小写
+     */
+    private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(Arrays.asList("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade"));
+
+    /**
+     * 内存层的总字节数上限
+     */
+    private final long maxMemoryBytes;
+
+    /**
+     * 单个条目响应正文的字节数上限
+     */
+    private final int maxEntrySize;
+
+    /**
+     * 磁盘层目录，为null时不开启磁盘层
+     */
+    private final Path directory;
+
+    /**
+     * 磁盘层的总字节数上限
+     */
+    private final long maxDiskBytes;
+
+    /**
+     * 内存层条目，按访问顺序排列，读写时持有其自身的锁
+     */
+    private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 内存层的总字节数
+     */
+    private long memoryWeight;
+
+    /**
+     * 磁盘层条目文件名及文件大小，按访问顺序排列，读写时持有其自身的锁
+     */
+    private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 磁盘层的总字节数
+     */
+    private long diskWeight;
+
+    /**
+     * 直接返回缓存响应的次数
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * 从磁盘层读取条目的次数
+     */
+    private final LongAdder diskHits = new LongAdder();
+
+    /**
+     * 访问网络获取完整响应的次数
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 上游返回304，重新验证成功的次数
+     */
+    private final LongAdder revalidations = new LongAdder();
+
+    /**
+     * 创建只有内存层的Http响应缓存
+     *
+     * @param maxMemoryBytes 内存层的总字节数上限
+     * @param maxEntrySize 单个条目响应正文的字节数上限，超过时不缓存
+     */
+    public HttpResponseCache(long maxMemoryBytes, int maxEntrySize) {
+        this(maxMemoryBytes, maxEntrySize, null, 0);
+    }
+
+    /**
+     * 创建带有磁盘层的Http响应缓存，目录中已有的条目继续使用
+     *
+     * @param maxMemoryBytes 内存层的总字节数上限
+     * @param maxEntrySize 单个条目响应正文的字节数上限，超过时不缓存
+     * @param directory 磁盘层目录，不存在时创建，为null时不开启磁盘层
+     * @param maxDiskBytes 磁盘层的总字节数上限
+     * @throws HttpComponentsException 磁盘层目录创建或读取失败时抛出异常
+     */
+    public HttpResponseCache(long maxMemoryBytes, int maxEntrySize, Path directory, long maxDiskBytes) throws HttpComponentsException {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxEntrySize = maxEntrySize;
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+                this.loadDiskIndex();
+            } catch (IOException e) {
+                throw new HttpComponentsException("Http响应缓存，读取磁盘缓存目录：" + directory + "，异常！", e);
+            }
+        }
+    }
+
+    /**
+     * 通过缓存执行Http请求，由{@link HttpComponentsClientKit#execute(HttpRequestBase)}调用
+     *
+     * @param httpClient Http客户端
+     * @param request Http请求对象
+     * @return 响应对象，使用缓存时为缓存的响应，响应正文已读入内存
+     * @throws IOException 请求异常
+     */
+    public CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request) throws IOException {
+        String method = request.getMethod();
+        String key = request.getURI().toString();
+        if (!HttpGet.METHOD_NAME.equals(method)) {
+            CloseableHttpResponse response = httpClient.execute(request);
+            if (!SAFE_METHODS.contains(method) && response.getStatusLine().getStatusCode() < HttpStatus.SC_BAD_REQUEST) {
+                this.invalidate(key);
+            }
+            return response;
+        }
+        CacheControl requestControl = new CacheControl(request.getHeaders(HttpHeaders.CACHE_CONTROL));
+        if (requestControl.noStore || request.containsHeader(HttpHeaders.IF_NONE_MATCH) || request.containsHeader(HttpHeaders.IF_MODIFIED_SINCE)) {
+            return httpClient.execute(request);
+        }
+        Entry entry = this.lookup(key);
+        if (entry != null && !entry.matches(request)) {
+            entry = null;
+        }
+        long requestTime = System.currentTimeMillis();
+        if (entry != null && !requestControl.noCache && entry.isFresh(requestTime, requestControl.maxAge)) {
+            this.hits.increment();
+            return entry.toResponse(requestTime);
+        }
+        boolean conditional = entry != null && entry.addConditions(request);
+        CloseableHttpResponse response;
+        try {
+            response = httpClient.execute(request);
+        } finally {
+            if (conditional) {
+                request.removeHeaders(HttpHeaders.IF_NONE_MATCH);
+                request.removeHeaders(HttpHeaders.IF_MODIFIED_SINCE);
+            }
+        }
+        long responseTime = System.currentTimeMillis();
+        if (conditional && response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+            EntityUtils.consume(response.getEntity());
+            response.close();
+            this.revalidations.increment();
+            Entry updated = entry.revalidate(response.getAllHeaders(), requestTime, responseTime);
+            this.store(key, updated);
+            return updated.toResponse(responseTime);
+        }
+        this.misses.increment();
+        return this.storeIfCacheable(key, request, response, requestTime, responseTime);
+    }
+
+    /**
+     * 使指定地址的缓存响应失效
+     *
+     * @param uri 请求地址
+     */
+    public void invalidate(String uri) {
+        synchronized (this.memory) {
+            Entry entry = this.memory.remove(uri);
+            if (entry != null) {
+                this.memoryWeight -= entry.weight();
+            }
+        }
+        if (this.directory != null) {
+            this.removeDisk(fileName(uri));
+        }
+    }
+
+    /**
+     * 使全部缓存响应失效，同时删除磁盘层的条目文件
+     */
+    public void invalidateAll() {
+        synchronized (this.memory) {
+            this.memory.clear();
+            this.memoryWeight = 0;
+        }
+        if (this.directory != null) {
+            List<String> names;
+            synchronized (this.diskIndex) {
+                names = new ArrayList<>(this.diskIndex.keySet());
+            }
+            for (String name : names) {
+                this.removeDisk(name);
+            }
+        }
+    }
+
+    /**
+     * 获取直接返回缓存响应、未访问网络的次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * 获取内存层未命中、从磁盘层读取条目的次数
+     *
+     * @return 磁盘层命中次数
+     */
+    public long getDiskHitCount() {
+        return this.diskHits.sum();
+    }
+
+    /**
+     * 获取访问网络获取完整响应的次数，包括重新验证时上游返回新响应的情况
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * 获取发起条件请求且上游返回304的次数
+     *
+     * @return 重新验证次数
+     */
+    public long getRevalidationCount() {
+        return this.revalidations.sum();
+    }
+
+    /**
+     * 获取内存层的条目数量
+     *
+     * @return 条目数量
+     */
+    public int size() {
+        synchronized (this.memory) {
+            return this.memory.size();
+        }
+    }
+
+    /**
+     * 获取内存层的总字节数
+     *
+     * @return 总字节数
+     */
+    public long getMemoryWeight() {
+        synchronized (this.memory) {
+            return this.memoryWeight;
+        }
+    }
+
+    /**
+     * 获取磁盘层的总字节数
+     *
+     * @return 总字节数，未开启磁盘层时为0
+     */
+    public long getDiskWeight() {
+        synchronized (this.diskIndex) {
+            return this.diskWeight;
+        }
+    }
+
+    /**
+     * 响应可缓存时读入响应正文并缓存，不可缓存时使原有条目失效并原样返回
+     */
+    private CloseableHttpResponse storeIfCacheable(String key, HttpRequest request, CloseableHttpResponse response, long requestTime, long responseTime) throws IOException {
+        CacheControl control = new CacheControl(response.getHeaders(HttpHeaders.CACHE_CONTROL));
+        HttpEntity entity = response.getEntity();
+        if (!isCacheable(response, control) || (entity != null && entity.getContentLength() > this.maxEntrySize)) {
+            this.invalidate(key);
+            return response;
+        }
+        byte[] body = new byte[0];
+        if (entity != null) {
+            InputStream content = entity.getContent();
+            body = readUpTo(content, this.maxEntrySize + 1);
+            if (body.length > this.maxEntrySize) {
+                this.invalidate(key);
+                response.setEntity(copyEntity(entity, new SequenceInputStream(new ByteArrayInputStream(body), content)));
+                return response;
+            }
+            content.close();
+            ByteArrayEntity buffered = new ByteArrayEntity(body);
+            buffered.setContentType(entity.getContentType());
+            buffered.setContentEncoding(entity.getContentEncoding());
+            response.setEntity(buffered);
+        }
+        this.store(key, Entry.create(key, response, request, requestTime, responseTime, body));
+        return response;
+    }
+
+    /**
+     * 响应是否可缓存：状态码默认可缓存，未禁止存储，且具有过期时间或验证器
+     */
+    private static boolean isCacheable(HttpResponse response, CacheControl control) {
+        if (!CACHEABLE_STATUS.contains(response.getStatusLine().getStatusCode()) || control.noStore) {
+            return false;
+        }
+        for (Header vary : response.getHeaders(HttpHeaders.VARY)) {
+            if (vary.getValue().trim().equals("*")) {
+                return false;
+            }
+        }
+        return control.maxAge >= 0 || response.containsHeader(HttpHeaders.EXPIRES)
+                || response.containsHeader(HttpHeaders.ETAG) || response.containsHeader(HttpHeaders.LAST_MODIFIED);
+    }
+
+    private Entry lookup(String key) {
+        synchronized (this.memory) {
+            Entry entry = this.memory.get(key);
+            if (entry != null || this.directory == null) {
+                return entry;
+            }
+        }
+        Entry entry = this.readDisk(key);
+        if (entry != null) {
+            this.diskHits.increment();
+            this.putMemory(entry);
+        }
+        return entry;
+    }
+
+    private void store(String key, Entry entry) {
+        this.putMemory(entry);
+        if (this.directory != null) {
+            this.writeDisk(key, entry);
+        }
+    }
+
+    private void putMemory(Entry entry) {
+        long weight = entry.weight();
+        synchronized (this.memory) {
+            Entry previous = this.memory.remove(entry.key);
+            if (previous != null) {
+                this.memoryWeight -= previous.weight();
+            }
+            if (weight > this.maxMemoryBytes) {
+                return;
+            }
+            this.memory.put(entry.key, entry);
+            this.memoryWeight += weight;
+            Iterator<Entry> iterator = this.memory.values().iterator();
+            while (this.memoryWeight > this.maxMemoryBytes) {
+                this.memoryWeight -= iterator.next().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 按最后修改时间恢复磁盘层条目的访问顺序，并删除未写入完成的临时文件
+     */
+    private void loadDiskIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(FILE_SUFFIX)) {
+                    files.add(file);
+                } else if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        Map<Path, Long> modified = new HashMap<>();
+        for (Path file : files) {
+            modified.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort((a, b) -> Long.compare(modified.get(a), modified.get(b)));
+        synchronized (this.diskIndex) {
+            for (Path file : files) {
+                long size = Files.size(file);
+                this.diskIndex.put(file.getFileName().toString(), size);
+                this.diskWeight += size;
+            }
+        }
+        this.evictDisk();
+    }
+
+    /**
+     * 读取磁盘层条目，文件损坏时删除文件，读取失败时视为未命中
+     */
+    private Entry readDisk(String key) {
+        String name = fileName(key);
+        synchronized (this.diskIndex) {
+            if (this.diskIndex.get(name) == null) {
+                return null;
+            }
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.directory.resolve(name))))) {
+            Entry entry = Entry.readFrom(in);
+            return key.equals(entry.key) ? entry : null;
+        } catch (IOException e) {
+            this.removeDisk(name);
+            return null;
+        }
+    }
+
+    /**
+     * 写入磁盘层条目，先写入临时文件再替换，写入失败时只保留内存层条目
+     */
+    private void writeDisk(String key, Entry entry) {
+        String name = fileName(key);
+        Path file = this.directory.resolve(name);
+        Path temp = null;
+        long size;
+        try {
+            temp = Files.createTempFile(this.directory, name, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                entry.writeTo(out);
+            }
+            size = Files.size(temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            return;
+        }
+        synchronized (this.diskIndex) {
+            Long previous = this.diskIndex.put(name, size);
+            this.diskWeight += size - (previous == null ? 0 : previous);
+        }
+        this.evictDisk();
+    }
+
+    private void evictDisk() {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this.diskIndex) {
+            Iterator<Map.Entry<String, Long>> iterator = this.diskIndex.entrySet().iterator();
+            while (this.diskWeight > this.maxDiskBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                this.diskWeight -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        for (String name : evicted) {
+            deleteQuietly(this.directory.resolve(name));
+        }
+    }
+
+    private void removeDisk(String name) {
+        synchronized (this.diskIndex) {
+            Long size = this.diskIndex.remove(name);
+            if (size == null) {
+                return;
+            }
+            this.diskWeight -= size;
+        }
+        deleteQuietly(this.directory.resolve(name));
+    }
+
+    private static String fileName(String key) {
+        return DigestUtils.sha256Hex(key) + FILE_SUFFIX;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 文件被占用等情况下保留文件，不影响缓存的使用
+        }
+    }
+
+    /**
+     * 从数据流读取至多limit个字节，不足时读取至数据流末尾
+     */
+    private static byte[] readUpTo(InputStream in, int limit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(limit, 8192));
+        byte[] buffer = new byte[8192];
+        int length;
+        while (out.size() < limit && (length = in.read(buffer, 0, Math.min(buffer.length, limit - out.size()))) != -1) {
+            out.write(buffer, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    private static HttpEntity copyEntity(HttpEntity entity, InputStream content) {
+        BasicHttpEntity copy = new BasicHttpEntity();
+        copy.setContent(content);
+        copy.setContentLength(entity.getContentLength());
+        copy.setContentType(entity.getContentType());
+        copy.setContentEncoding(entity.getContentEncoding());
+        return copy;
+    }
+
+    /**
+     * 请求或响应的Cache-Control指令
+     */
+    private static final class CacheControl {
+
+        private boolean noStore;
+
+        private boolean noCache;
+
+        /**
+         * max-age指令的秒数，未指定时为-1
+         */
+        private long maxAge = -1;
+
+        private CacheControl(Header[] headers) {
+            for (Header header : headers) {
+                for (HeaderElement element : header.getElements()) {
+                    String name = element.getName().toLowerCase();
+                    if ("no-store".equals(name)) {
+                        this.noStore = true;
+                    } else if ("no-cache".equals(name)) {
+                        this.noCache = true;
+                    } else if ("max-age".equals(name)) {
+                        try {
+                            this.maxAge = Math.max(0, Long.parseLong(element.getValue()));
+                        } catch (NumberFormatException e) {
+                            // 无效的max-age视为已过期
+                            this.maxAge = 0;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 缓存条目，创建后不再修改
+     */
+    private static final class Entry {
+
+        private final String key;
+
+        private final int status;
+
+        private final String reason;
+
+        private final Header[] headers;
+
+        /**
+         * 响应头Vary指定的请求头名称
+         */
+        private final String[] varyNames;
+
+        /**
+         * 缓存时varyNames对应的请求头的值，请求头不存在时为null
+         */
+        private final String[] varyValues;
+
+        private final long requestTime;
+
+        private final long responseTime;
+
+        private final byte[] body;
+
+        private final CacheControl control;
+
+        private Entry(String key, int status, String reason, Header[] headers, String[] varyNames, String[] varyValues,
+                      long requestTime, long responseTime, byte[] body) {
+            this.key = key;
+            this.status = status;
+            this.reason = reason;
+            this.headers = headers;
+            this.varyNames = varyNames;
+            this.varyValues = varyValues;
+            this.requestTime = requestTime;
+            this.responseTime = responseTime;
+            this.body = body;
+            this.control = new CacheControl(this.getHeaders(HttpHeaders.CACHE_CONTROL));
+        }
+
+        /**
+         * 由上游的响应创建条目，不保存逐跳响应头
+         */
+        private static Entry create(String key, HttpResponse response, HttpRequest request, long requestTime, long responseTime, byte[] body) {
+            List<Header> headers = new ArrayList<>();
+            for (Header header : response.getAllHeaders()) {
+                if (!HOP_BY_HOP_HEADERS.contains(header.getName().toLowerCase())) {
+                    headers.add(header);
+                }
+            }
+            String[] varyNames = varyNames(response);
+            return new Entry(key, response.getStatusLine().getStatusCode(), response.getStatusLine().getReasonPhrase(), headers.toArray(new Header[0]),
+                    varyNames, requestValues(request, varyNames), requestTime, responseTime, body);
+        }
+
+        /**
+         * 请求的Vary请求头是否与缓存时一致
+         */
+        private boolean matches(HttpRequest request) {
+            return Arrays.equals(this.varyValues, requestValues(request, this.varyNames));
+        }
+
+        /**
+         * 是否仍然新鲜，可直接返回
+         *
+         * @param now 当前时间
+         * @param maxAge 请求指定的可接受的最大年龄，单位秒，未指定时为-1
+         */
+        private boolean isFresh(long now, long maxAge) {
+            if (this.control.noCache) {
+                return false;
+            }
+            long age = this.currentAge(now);
+            if (maxAge >= 0 && age > maxAge * 1000) {
+                return false;
+            }
+            return this.freshnessLifetime() > age;
+        }
+
+        /**
+         * 新鲜度有效期，单位毫秒
+         */
+        private long freshnessLifetime() {
+            if (this.control.maxAge >= 0) {
+                return this.control.maxAge * 1000;
+            }
+            long date = this.date();
+            Header expires = this.getFirstHeader(HttpHeaders.EXPIRES);
+            if (expires != null) {
+                Date expiresDate = DateUtils.parseDate(expires.getValue());
+                return expiresDate == null ? 0 : expiresDate.getTime() - date;
+            }
+            Header lastModified = this.getFirstHeader(HttpHeaders.LAST_MODIFIED);
+            if (lastModified != null) {
+                Date lastModifiedDate = DateUtils.parseDate(lastModified.getValue());
+                if (lastModifiedDate != null && lastModifiedDate.getTime() < date) {
+                    return (date - lastModifiedDate.getTime()) / 10;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * 当前年龄，单位毫秒，按RFC 7234第4.2.3节计算
+         */
+        private long currentAge(long now) {
+            long apparentAge = Math.max(0, this.responseTime - this.date());
+            long ageValue = 0;
+            Header age = this.getFirstHeader(HttpHeaders.AGE);
+            if (age != null) {
+                try {
+                    ageValue = Math.max(0, Long.parseLong(age.getValue().trim())) * 1000;
+                } catch (NumberFormatException e) {
+                    // 无效的Age按0处理
+                }
+            }
+            long correctedAgeValue = ageValue + (this.responseTime - this.requestTime);
+            return Math.max(apparentAge, correctedAgeValue) + (now - this.responseTime);
+        }
+
+        private long date() {
+            Header date = this.getFirstHeader(HttpHeaders.DATE);
+            Date parsed = date == null ? null : DateUtils.parseDate(date.getValue());
+            return parsed == null ? this.responseTime : parsed.getTime();
+        }
+
+        /**
+         * 为请求添加条件请求头
+         *
+         * @return 存在ETag或Last-Modified验证器时返回true
+         */
+        private boolean addConditions(HttpRequest request) {
+            Header etag = this.getFirstHeader(HttpHeaders.ETAG);
+            Header lastModified = this.getFirstHeader(HttpHeaders.LAST_MODIFIED);
+            if (etag != null) {
+                request.setHeader(HttpHeaders.IF_NONE_MATCH, etag.getValue());
+            }
+            if (lastModified != null) {
+                request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified.getValue());
+            }
+            return etag != null || lastModified != null;
+        }
+
+        /**
+         * 以304响应的响应头更新条目，按RFC 7234第4.3.4节替换同名响应头
+         */
+        private Entry revalidate(Header[] notModifiedHeaders, long requestTime, long responseTime) {
+            Set<String> replaced = new HashSet<>();
+            for (Header header : notModifiedHeaders) {
+                String name = header.getName().toLowerCase();
+                if (!NOT_UPDATED_HEADERS.contains(name)) {
+                    replaced.add(name);
+                }
+            }
+            List<Header> headers = new ArrayList<>();
+            for (Header header : this.headers) {
+                if (!replaced.contains(header.getName().toLowerCase())) {
+                    headers.add(header);
+                }
+            }
+            for (Header header : notModifiedHeaders) {
+                if (replaced.contains(header.getName().toLowerCase())) {
+                    headers.add(header);
+                }
+            }
+            return new Entry(this.key, this.status, this.reason, headers.toArray(new Header[0]), this.varyNames, this.varyValues,
+                    requestTime, responseTime, this.body);
+        }
+
+        /**
+         * 创建缓存的响应对象，附带Age响应头
+         */
+        private CloseableHttpResponse toResponse(long now) {
+            CachedHttpResponse response = new CachedHttpResponse(this.status, this.reason);
+            response.setHeaders(this.headers);
+            response.setHeader(HttpHeaders.AGE, String.valueOf(Math.max(0, this.currentAge(now) / 1000)));
+            if (this.status != HttpStatus.SC_NO_CONTENT) {
+                ByteArrayEntity entity = new ByteArrayEntity(this.body);
+                entity.setContentType(this.getFirstHeader(HttpHeaders.CONTENT_TYPE));
+                entity.setContentEncoding(this.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+                response.setEntity(entity);
+            }
+            return response;
+        }
+
+        /**
+         * 内存层占用的字节数，按响应正文及响应头的字符数估算
+         */
+        private long weight() {
+            long weight = this.body.length + this.key.length() * 2L;
+            for (Header header : this.headers) {
+                weight += (header.getName().length() + header.getValue().length()) * 2L;
+            }
+            return weight;
+        }
+
+        private Header getFirstHeader(String name) {
+            for (Header header : this.headers) {
+                if (header.getName().equalsIgnoreCase(name)) {
+                    return header;
+                }
+            }
+            return null;
+        }
+
+        private Header[] getHeaders(String name) {
+            List<Header> matched = new ArrayList<>();
+            for (Header header : this.headers) {
+                if (header.getName().equalsIgnoreCase(name)) {
+                    matched.add(header);
+                }
+            }
+            return matched.toArray(new Header[0]);
+        }
+
+        private void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(FILE_VERSION);
+            out.writeUTF(this.key);
+            out.writeInt(this.status);
+            out.writeUTF(this.reason == null ? "" : this.reason);
+            out.writeLong(this.requestTime);
+            out.writeLong(this.responseTime);
+            out.writeInt(this.headers.length);
+            for (Header header : this.headers) {
+                out.writeUTF(header.getName());
+                out.writeUTF(header.getValue());
+            }
+            out.writeInt(this.varyNames.length);
+            for (int i = 0; i < this.varyNames.length; i++) {
+                out.writeUTF(this.varyNames[i]);
+                out.writeBoolean(this.varyValues[i] != null);
+                if (this.varyValues[i] != null) {
+                    out.writeUTF(this.varyValues[i]);
+                }
+            }
+            out.writeInt(this.body.length);
+            out.write(this.body);
+        }
+
+        private static Entry readFrom(DataInputStream in) throws IOException {
+            if (in.readInt() != FILE_VERSION) {
+                throw new IOException("不支持的缓存文件版本");
+            }
+            String key = in.readUTF();
+            int status = in.readInt();
+            String reason = in.readUTF();
+            long requestTime = in.readLong();
+            long responseTime = in.readLong();
+            Header[] headers = new Header[in.readInt()];
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = new BasicHeader(in.readUTF(), in.readUTF());
+            }
+            int varyCount = in.readInt();
+            String[] varyNames = new String[varyCount];
+            String[] varyValues = new String[varyCount];
+            for (int i = 0; i < varyCount; i++) {
+                varyNames[i] = in.readUTF();
+                varyValues[i] = in.readBoolean() ? in.readUTF() : null;
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(key, status, reason, headers, varyNames, varyValues, requestTime, responseTime, body);
+        }
+
+        private static String[] varyNames(HttpResponse response) {
+            List<String> names = new ArrayList<>();
+            for (Header vary : response.getHeaders(HttpHeaders.VARY)) {
+                for (HeaderElement element : vary.getElements()) {
+                    names.add(element.getName());
+                }
+            }
+            return names.toArray(new String[0]);
+        }
+
+        private static String[] requestValues(HttpRequest request, String[] names) {
+            String[] values = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                Header[] headers = request.getHeaders(names[i]);
+                if (headers.length > 0) {
+                    StringBuilder value = new StringBuilder(headers[0].getValue());
+                    for (int j = 1; j < headers.length; j++) {
+                        value.append(',').append(headers[j].getValue());
+                    }
+                    values[i] = value.toString();
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * 缓存的响应对象，响应正文已在内存中，关闭时无需释放连接
+     */
+    private static final class CachedHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+        private CachedHttpResponse(int status, String reason) {
+            super(HttpVersion.HTTP_1_1, status, reason);
+        }
+
+        @Override
+        public void close() {
+            // 响应正文已在内存中，无需释放连接
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+
+/**
+ * <p>Http客户端工具箱接口定义</p>
+ * 定义了创建请求、执行请求及读取响应的操作标准，由{@link HttpComponentsClientKit}、{@link OkHttpClientKit}等不同的Http引擎实现，
+ * 面向接口编程时可在不修改调用代码的情况下切换引擎。
+ *
+ * @param <T> 请求类型
+ * @param <R> 响应类型
+ * @author Eugene
+ */
+public interface IHttpClientKit<T, R> extends Closeable {
+
+    /**
+     * 创建Get请求对象
+     *
+     * @param url 请求的URL
+     * @return Get请求对象
+     */
+    public T createHttpGet(String url);
+
+    /**
+     * 创建无请求数据的Post请求对象
+     *
+     * @param url 请求的URL
+     * @return Post请求对象
+     */
+    public T createHttpPost(String url);
+
+    /**
+     * 创建Post请求对象
+     *
+     * @param url 请求的URL
+     * @param data 请求数据，使用UTF-8编码
+     * @return Post请求对象
+     */
+    public T createHttpPost(String url, String data);
+
+    /**
+     * 创建Put请求对象
+     *
+     * @param url 请求的URL
+     * @param data 请求数据，使用UTF-8编码
+     * @return Put请求对象
+     */
+    public T createHttpPut(String url, String data);
+
+    /**
+     * 创建Delete请求对象
+     *
+     * @param url 请求的URL
+     * @return Delete请求对象
+     */
+    public T createHttpDelete(String url);
+
+    /**
+     * 获取请求的URI
+     *
+     * @param request 请求对象
+     * @return 请求的URI
+     */
+    public URI getRequestURI(T request);
+
+    /**
+     * 执行Http请求，调用方读取完响应正文后连接归还连接池
+     *
+     * @param request 请求对象
+     * @return 响应对象
+     */
+    public R execute(T request);
+
+    /**
+     * 简洁Get请求处理
+     *
+     * @param url 请求的URL地址
+     * @return 响应报文
+     */
+    public String doGet(String url);
+
+    /**
+     * 简洁Post请求处理
+     *
+     * @param url 请求的URL地址
+     * @return 响应报文
+     */
+    public String doPost(String url);
+
+    /**
+     * 获取响应正文的流对象，调用方负责关闭
+     *
+     * @param response 响应对象
+     * @return 响应正文的流对象
+     */
+    public InputStream getInputStreamContent(R response);
+
+    /**
+     * 获取字节数组响应正文
+     *
+     * @param response 响应对象
+     * @return 字节数组响应正文
+     */
+    public byte[] getBytesContent(R response);
+
+    /**
+     * 获取字符串响应正文
+     *
+     * @param response 响应对象
+     * @param charset 指定字符编码
+     * @return 字符串响应正文
+     */
+    public String getStringContent(R response, Charset charset);
+
+    /**
+     * 关闭工具箱持有的Http客户端及连接池
+     */
+    @Override
+    public void close();
+}
@@ -1,8 +1,342 @@
 package com.github.eugeneheen.berry.kit.net;
 
+import com.github.eugeneheen.berry.kit.exception.HttpResponseException;
+import com.github.eugeneheen.berry.kit.exception.OkHttpException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
- * 基于OkHttp3的Http客户端工具箱
+ * <p>
+ * 基于OkHttp3的Http客户端工具箱，与{@link HttpComponentsClientKit}同样实现{@link IHttpClientKit}，可相互替换。<br>
+ * 使用流程与HttpComponentsClientKit一致：创建请求对象，通过execute方法或doGet、doPost方法执行请求，再通过getStringContent等方法读取响应正文。
+ * </p>
+ * <p>
+ * 请求通过长期持有的OkHttpClient执行，连接由连接池管理并在请求间复用。HTTPS上游支持HTTP/2时自动协商使用HTTP/2，
+ * 发往同一上游的并发请求在同一个连接上多路复用；明文的HTTP/2上游可通过{@link OkHttpClientKitBuilder#http2PriorKnowledge(boolean)}开启。
+ * 通过{@code new OkHttpClientKit()}或{@link #shared()}获取的工具箱共用同一个默认客户端，JVM退出时自动关闭；
+ * 需要独立配置时通过{@link OkHttpClientKitBuilder}创建，使用完毕后调用{@link #close()}释放。
+ * </p>
+ *
  * @author Eugene
  */
-public class OkHttpClientKit {
+public class OkHttpClientKit implements IHttpClientKit<Request, Response> {
+
+    /**
+     * UTF-8编码的纯文本内容类型，与HttpComponentsClientKit的字符串请求数据一致
+     */
+    public static final MediaType TEXT_PLAIN_UTF8 = MediaType.parse("text/plain; charset=UTF-8");
+
+    /**
+     * 空的请求数据
+     */
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    /**
+     * 长期持有的OkHttp客户端，所有请求共用
+     */
+    private final OkHttpClient okHttpClient;
+
+    /**
+     * 是否可通过close方法关闭，共用默认客户端的工具箱不可关闭
+     */
+    private final boolean closeable;
+
+    /**
+     * 创建共用默认客户端的OkHttp客户端工具箱，多次创建不会产生新的连接池。
+     */
+    public OkHttpClientKit() {
+        this(SharedHolder.POOLED.okHttpClient, false);
+    }
+
+    /**
+     * 创建持有独立客户端的OkHttp客户端工具箱，由{@link OkHttpClientKitBuilder}调用。
+     *
+     * @param okHttpClient OkHttp客户端。
+     */
+    OkHttpClientKit(OkHttpClient okHttpClient) {
+        this(okHttpClient, true);
+    }
+
+    private OkHttpClientKit(OkHttpClient okHttpClient, boolean closeable) {
+        this.okHttpClient = okHttpClient;
+        this.closeable = closeable;
+    }
+
+    /**
+     * 获取共用默认客户端的OkHttp客户端工具箱，首次调用时创建，此后始终返回同一实例。
+     *
+     * @return 共享OkHttp客户端工具箱。
+     */
+    public static OkHttpClientKit shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * 获取工具箱长期持有的OkHttp客户端，由工具箱负责关闭。需要不同超时等配置时，通过其newBuilder方法派生客户端，派生的客户端共用连接池。
+     *
+     * @return OkHttp客户端对象。
+     */
+    public OkHttpClient getOkHttpClient() {
+        return this.okHttpClient;
+    }
+
+    /**
+     * 获取连接池，可通过其connectionCount、idleConnectionCount方法查看连接数。
+     *
+     * @return 连接池。
+     */
+    public ConnectionPool getConnectionPool() {
+        return this.okHttpClient.connectionPool();
+    }
+
+    /**
+     * 创建Get请求对象。
+     *
+     * @param url 请求的URL。
+     * @return Get请求对象。
+     */
+    @Override
+    public Request createHttpGet(String url) {
+        return new Request.Builder().url(url).get().build();
+    }
+
+    /**
+     * 创建无请求数据的Post请求对象。
+     *
+     * @param url 请求的URL。
+     * @return Post请求对象。
+     */
+    @Override
+    public Request createHttpPost(String url) {
+        return new Request.Builder().url(url).post(RequestBody.create(null, EMPTY_BODY)).build();
+    }
+
+    /**
+     * 创建Post请求对象。
+     *
+     * @param url  请求的URL。
+     * @param data 请求数据，使用UTF-8编码。
+     * @return Post请求对象。
+     */
+    @Override
+    public Request createHttpPost(String url, String data) {
+        return new Request.Builder().url(url).post(RequestBody.create(TEXT_PLAIN_UTF8, data)).build();
+    }
+
+    /**
+     * 创建Put请求对象。
+     *
+     * @param url  请求的URL。
+     * @param data 请求数据，使用UTF-8编码。
+     * @return Put请求对象。
+     */
+    @Override
+    public Request createHttpPut(String url, String data) {
+        return new Request.Builder().url(url).put(RequestBody.create(TEXT_PLAIN_UTF8, data)).build();
+    }
+
+    /**
+     * 创建Delete请求对象。
+     *
+     * @param url 请求的URL。
+     * @return Delete请求对象。
+     */
+    @Override
+    public Request createHttpDelete(String url) {
+        return new Request.Builder().url(url).delete().build();
+    }
+
+    /**
+     * 设置请求头。OkHttp的请求对象不可修改，返回设置了请求头的新请求对象。
+     *
+     * @param request 请求对象。
+     * @param headers 待设置的Header信息。
+     * @return 设置了请求头的请求对象。
+     */
+    public Request setHeader(Request request, Map<String, String> headers) {
+        Request.Builder builder = request.newBuilder();
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            builder.header(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 获取请求的URI。
+     *
+     * @param request 请求对象。
+     * @return 请求的URI。
+     */
+    @Override
+    public URI getRequestURI(Request request) {
+        return request.url().uri();
+    }
+
+    /**
+     * 执行Http请求。读取完响应正文或关闭响应对象后连接归还连接池，调用方需通过getStringContent等方法读取响应正文或关闭响应对象。
+     *
+     * @param request 请求对象。
+     * @return 响应对象。
+     */
+    @Override
+    public Response execute(Request request) {
+        Response response;
+        try {
+            response = this.okHttpClient.newCall(request).execute();
+        } catch (IOException e) {
+            throw new OkHttpException("OkHttp请求异常！", e);
+        }
+        return response;
+    }
+
+    /**
+     * 异步执行Http请求，由OkHttp的调度器执行，并发数受{@link OkHttpClientKitBuilder#maxTotal(int)}、{@link OkHttpClientKitBuilder#maxPerRoute(int)}限制。
+     * 取消返回的CompletableFuture时同时取消请求。
+     *
+     * @param request 请求对象。
+     * @return 响应对象的CompletableFuture，请求失败时以OkHttpException异常完成。
+     */
+    public CompletableFuture<Response> executeAsync(Request request) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        Call call = this.okHttpClient.newCall(request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(new OkHttpException("OkHttp异步请求异常！", e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!future.complete(response)) {
+                    response.close();
+                }
+            }
+        });
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 简洁Get请求处理
+     *
+     * @param url 请求的URL地址
+     * @return Get请求响应报文
+     */
+    @Override
+    public String doGet(String url) {
+        String responseContent;
+        try (Response response = this.execute(this.createHttpGet(url))) {
+            responseContent = response.body().string();
+        } catch (IOException e) {
+            throw new OkHttpException("执行Http的Get请求，响应结果转换字符串异常！", e);
+        }
+        return responseContent;
+    }
+
+    /**
+     * 简洁Post请求处理
+     *
+     * @param url 请求的URL地址
+     * @return Post请求响应报文
+     */
+    @Override
+    public String doPost(String url) {
+        String responseContent;
+        try (Response response = this.execute(this.createHttpPost(url))) {
+            responseContent = response.body().string();
+        } catch (IOException e) {
+            throw new OkHttpException("执行Http的Post请求，响应结果转换字符串异常！", e);
+        }
+        return responseContent;
+    }
+
+    /**
+     * 获取响应正文的流对象，关闭流对象后连接归还连接池。
+     *
+     * @param response 响应对象。
+     * @return InputStream响应正文对象。
+     */
+    @Override
+    public InputStream getInputStreamContent(Response response) {
+        return response.body().byteStream();
+    }
+
+    /**
+     * 获取字节数组响应正文，读取后关闭响应对象。
+     *
+     * @param response 响应对象。
+     * @return 字节数组响应正文。
+     */
+    @Override
+    public byte[] getBytesContent(Response response) {
+        byte[] bytes;
+        try {
+            bytes = response.body().bytes();
+        } catch (IOException e) {
+            throw new HttpResponseException("获取字节数组响应正文异常！", e);
+        }
+        return bytes;
+    }
+
+    /**
+     * 获取字符串响应正文，读取后关闭响应对象。
+     *
+     * @param response 响应对象。
+     * @param charset 指定字符编码
+     * @return 字符串响应正文。
+     */
+    @Override
+    public String getStringContent(Response response, Charset charset) {
+        return new String(this.getBytesContent(response), charset);
+    }
+
+    /**
+     * 关闭响应对象，释放连接。
+     *
+     * @param response 待关闭的响应对象。
+     */
+    public void close(Response response) {
+        if (response != null) {
+            response.close();
+        }
+    }
+
+    /**
+     * 关闭工具箱持有的OkHttp客户端，停止调度器的线程并关闭连接池中的空闲连接，可重复调用。
+     * 共用默认客户端的工具箱调用本方法无效果，默认客户端在JVM退出时关闭。
+     */
+    @Override
+    public void close() {
+        if (this.closeable) {
+            this.okHttpClient.dispatcher().executorService().shutdown();
+            this.okHttpClient.connectionPool().evictAll();
+        }
+    }
+
+    /**
+     * 默认客户端的延迟初始化持有类
+     */
+    private static class SharedHolder {
+
+        private static final OkHttpClientKit POOLED = OkHttpClientKitBuilder.newOkHttpClientKitBuilder().shutdownHook(true).build();
+
+        private static final OkHttpClientKit INSTANCE = new OkHttpClientKit(POOLED.okHttpClient, false);
+    }
 }
@@ -0,0 +1,189 @@
+package com.github.eugeneheen.berry.kit.net;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>OkHttp客户端工具箱构造器，用于创建持有独立客户端与连接池的{@link OkHttpClientKit}。</p>
+ * <pre>
+ * OkHttpClientKit okHttpKit = OkHttpClientKitBuilder.newOkHttpClientKitBuilder().maxIdleConnections(50).build();
+ * </pre>
+ * <p>创建的OkHttp客户端工具箱使用完毕后需调用{@link OkHttpClientKit#close()}释放，或通过{@link #shutdownHook(boolean)}在JVM退出时关闭。</p>
+ *
+ * @author Eugene
+ */
+public class OkHttpClientKitBuilder {
+
+    /**
+     * 默认的连接、读取、写入超时时间，单位毫秒，与OkHttp的默认值一致
+     */
+    public static final int DEFAULT_TIMEOUT = 10 * 1000;
+
+    /**
+     * 异步请求的最大并发数
+     */
+    private int maxTotal = HttpComponentsClientKitBuilder.DEFAULT_MAX_TOTAL;
+
+    /**
+     * 每个主机异步请求的最大并发数
+     */
+    private int maxPerRoute = HttpComponentsClientKitBuilder.DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * 连接池保留的最大空闲连接数
+     */
+    private int maxIdleConnections = HttpComponentsClientKitBuilder.DEFAULT_MAX_PER_ROUTE;
+
+    /**
+     * 空闲连接保持时间，单位毫秒
+     */
+    private long keepAlive = HttpComponentsClientKitBuilder.DEFAULT_KEEP_ALIVE;
+
+    /**
+     * 建立连接的超时时间，单位毫秒
+     */
+    private int connectTimeout = DEFAULT_TIMEOUT;
+
+    /**
+     * 读取数据的超时时间，单位毫秒
+     */
+    private int readTimeout = DEFAULT_TIMEOUT;
+
+    /**
+     * 写入数据的超时时间，单位毫秒
+     */
+    private int writeTimeout = DEFAULT_TIMEOUT;
+
+    /**
+     * 是否以HTTP/2访问明文上游
+     */
+    private boolean http2PriorKnowledge;
+
+    /**
+     * 是否在JVM退出时关闭客户端
+     */
+    private boolean shutdownHook;
+
+    private OkHttpClientKitBuilder() {
+
+    }
+
+    public static OkHttpClientKitBuilder newOkHttpClientKitBuilder() {
+        return new OkHttpClientKitBuilder();
+    }
+
+    /**
+     * 指定异步请求的最大并发数，默认为200，超过时在调度器中排队。同步请求的并发数由调用线程数决定
+     *
+     * @param maxTotal 最大并发数
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder maxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    /**
+     * 指定每个主机异步请求的最大并发数，默认为20
+     *
+     * @param maxPerRoute 每个主机最大并发数
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder maxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * 指定连接池保留的最大空闲连接数，默认为20。HTTP/2上游的并发请求共用一个连接，无需保留多个连接
+     *
+     * @param maxIdleConnections 最大空闲连接数
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder maxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    /**
+     * 指定空闲连接保持时间，默认为30秒，超过时由连接池关闭
+     *
+     * @param keepAlive 空闲连接保持时间
+     * @param unit 时间单位
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder keepAlive(long keepAlive, TimeUnit unit) {
+        this.keepAlive = unit.toMillis(keepAlive);
+        return this;
+    }
+
+    /**
+     * 指定超时时间，单位毫秒，0为不超时，默认均为10秒
+     *
+     * @param connectTimeout 建立连接的超时时间
+     * @param readTimeout 读取数据的超时时间
+     * @param writeTimeout 写入数据的超时时间
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder timeout(int connectTimeout, int readTimeout, int writeTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.writeTimeout = writeTimeout;
+        return this;
+    }
+
+    /**
+     * <p>是否以HTTP/2访问明文（http）上游，默认不开启。开启后只能访问支持明文HTTP/2的上游，例如gRPC等内部服务。</p>
+     * <p>HTTPS上游无需开启，通过TLS的ALPN自动协商HTTP/2，Java 8需要8u252及以上版本。</p>
+     *
+     * @param http2PriorKnowledge 是否开启
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder http2PriorKnowledge(boolean http2PriorKnowledge) {
+        this.http2PriorKnowledge = http2PriorKnowledge;
+        return this;
+    }
+
+    /**
+     * 是否在JVM退出时自动关闭客户端，默认不开启
+     *
+     * @param shutdownHook 是否开启
+     * @return 构造器
+     */
+    public OkHttpClientKitBuilder shutdownHook(boolean shutdownHook) {
+        this.shutdownHook = shutdownHook;
+        return this;
+    }
+
+    /**
+     * 创建持有独立客户端的OkHttp客户端工具箱
+     *
+     * @return OkHttp客户端工具箱
+     */
+    public OkHttpClientKit build() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(this.maxTotal);
+        dispatcher.setMaxRequestsPerHost(this.maxPerRoute);
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(this.maxIdleConnections, this.keepAlive, TimeUnit.MILLISECONDS))
+                .protocols(this.http2PriorKnowledge
+                        ? Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)
+                        : Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(this.connectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(this.readTimeout, TimeUnit.MILLISECONDS)
+                .writeTimeout(this.writeTimeout, TimeUnit.MILLISECONDS)
+                .build();
+        OkHttpClientKit okHttpKit = new OkHttpClientKit(okHttpClient);
+        if (this.shutdownHook) {
+            Runtime.getRuntime().addShutdownHook(new Thread(okHttpKit::close, "berry-kit-okhttp-shutdown"));
+        }
+        return okHttpKit;
+    }
+}
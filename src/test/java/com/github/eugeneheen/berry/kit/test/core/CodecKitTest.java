@@ -3,14 +3,19 @@ package com.github.eugeneheen.berry.kit.test.core;
 import com.github.eugeneheen.berry.kit.core.CodecKit;
 import com.github.eugeneheen.berry.kit.enumeration.DigitsEnum;
 import com.github.eugeneheen.berry.kit.enumeration.SecretKeyTypeEnum;
+import com.github.eugeneheen.berry.kit.exception.CodecException;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base64;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
@@ -18,6 +23,7 @@ import java.security.interfaces.RSAKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Map;
+import java.util.Random;
 
 public class CodecKitTest {
     private static CodecKit codecKit;
@@ -96,6 +102,37 @@ public class CodecKitTest {
         Assert.assertEquals(defaultVal, decrypt);
     }
 
+    @Test
+    public void testAESFile() throws IOException {
+        final String KEY = "eUGeNebeRrYKiTc22";
+        byte[] meta = new byte[100003];
+        new Random(19).nextBytes(meta);
+
+        Path source = Files.createTempFile("berry-kit-aes", ".src");
+        Path encrypted = Files.createTempFile("berry-kit-aes", ".enc");
+        Path decrypted = Files.createTempFile("berry-kit-aes", ".dec");
+        try {
+            Files.write(source, meta);
+            SecretKeySpec keySpec = codecKit.genAesKey(KEY, DigitsEnum.AES_128);
+            // 小分段多线程加密，单分段单线程解密，验证分段计数器计算正确
+            codecKit.aesCtrEncryptOrDecryptFile(Cipher.ENCRYPT_MODE, keySpec, source, encrypted, 4, 1024);
+            Assert.assertEquals(meta.length + CodecKit.AES_BLOCK_SIZE, Files.size(encrypted));
+            codecKit.aesCtrEncryptOrDecryptFile(Cipher.DECRYPT_MODE, keySpec, encrypted, decrypted, 1, CodecKit.AES_CTR_SEGMENT_SIZE);
+            Assert.assertArrayEquals(meta, Files.readAllBytes(decrypted));
+
+            try {
+                codecKit.aesCtrEncryptOrDecryptFile(Cipher.ENCRYPT_MODE, keySpec, source, source.getParent().resolve(".").resolve(source.getFileName()), 1, 1024);
+                Assert.fail("源文件与输出文件相同时应抛出异常");
+            } catch (CodecException e) {
+                Assert.assertArrayEquals(meta, Files.readAllBytes(source));
+            }
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(encrypted);
+            Files.deleteIfExists(decrypted);
+        }
+    }
+
     @Test
     public void testRSA() {
         // 默认加密因子
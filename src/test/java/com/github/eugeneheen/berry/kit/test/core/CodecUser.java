@@ -0,0 +1,79 @@
+package com.github.eugeneheen.berry.kit.test.core;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.eugeneheen.berry.kit.core.json.JsonCodec;
+
+import java.util.List;
+import java.util.Map;
+
+@JsonCodec
+public class CodecUser {
+    private String name;
+
+    private int age;
+
+    private boolean active;
+
+    @JsonProperty("user_tags")
+    private List<String> tags;
+
+    Map<String, User> friends;
+
+    @JsonIgnore
+    private String password;
+
+    private long version = 1;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return name + "(" + age + ")";
+    }
+}
@@ -1,17 +1,46 @@
 package com.github.eugeneheen.berry.kit.test.core;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.eugeneheen.berry.kit.core.JsonKit;
+import com.github.eugeneheen.berry.kit.core.JsonKitBuilder;
+import com.github.eugeneheen.berry.kit.core.json.JsonArrayIterator;
+import com.github.eugeneheen.berry.kit.core.json.JsonAsyncReader;
+import com.github.eugeneheen.berry.kit.core.json.JsonBufferPool;
+import com.github.eugeneheen.berry.kit.core.json.JsonLinesIterator;
+import com.github.eugeneheen.berry.kit.core.json.JsonLinesWriter;
+import com.github.eugeneheen.berry.kit.core.json.JsonReader;
+import com.github.eugeneheen.berry.kit.core.json.JsonWriteCache;
+import com.github.eugeneheen.berry.kit.core.json.JsonWriter;
+import com.github.eugeneheen.berry.kit.enumeration.JsonBufferPoolEnum;
+import com.github.eugeneheen.berry.kit.enumeration.JsonCacheRemovalEnum;
+import com.github.eugeneheen.berry.kit.enumeration.JsonFormatEnum;
 import com.github.eugeneheen.berry.kit.exception.JsonParseException;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class JsonKitTest {
 
@@ -118,6 +147,23 @@ public class JsonKitTest {
         }
     }
 
+    @Test
+    public void testConvert() {
+        User user = new User();
+        user.setName("Eugene");
+        user.setAge(20);
+        try {
+            Map<String, Object> map = jsonKit.convert(user, Map.class);
+            Assert.assertEquals("Eugene", map.get("name"));
+            Assert.assertEquals(20, map.get("age"));
+            User copy = jsonKit.convert(map, User.class);
+            Assert.assertNotSame(user, copy);
+            Assert.assertEquals(20, copy.getAge());
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
     @Test
     public void testReadinputStreamAsCollection(){
         InputStream inputStream = ClassLoader.getSystemResourceAsStream("users.txt");
@@ -136,6 +182,542 @@ public class JsonKitTest {
         }
     }
 
+    @Test
+    public void testReadInputStreamAsIterator() {
+        InputStream inputStream = ClassLoader.getSystemResourceAsStream("users.txt");
+        try (JsonArrayIterator<User> iterator = jsonKit.readAsIterator(inputStream, User.class)) {
+            List<String> names = new ArrayList<>();
+            while (iterator.hasNext()) {
+                names.add(iterator.next().getName());
+            }
+            Assert.assertEquals(Arrays.asList("Eugene", "King", "Susan"), names);
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testReadInputStreamAsStream() {
+        InputStream inputStream = ClassLoader.getSystemResourceAsStream("users.txt");
+        try (Stream<User> stream = jsonKit.readAsStream(inputStream, User.class)) {
+            Assert.assertEquals(98, stream.mapToInt(User::getAge).sum());
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testWriteAndReadBytes() {
+        User user = new User();
+        user.setName("Eugene");
+        user.setAge(20);
+        try {
+            byte[] bytes = jsonKit.writeAsBytes(user);
+            Assert.assertEquals("Eugene", jsonKit.read(bytes, User.class).getName());
+
+            byte[] padded = new byte[bytes.length + 4];
+            System.arraycopy(bytes, 0, padded, 2, bytes.length);
+            Assert.assertEquals(20, jsonKit.read(padded, 2, bytes.length, User.class).getAge());
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            jsonKit.write(user, outputStream);
+            Assert.assertArrayEquals(bytes, outputStream.toByteArray());
+
+            StringWriter writer = new StringWriter();
+            jsonKit.write(user, writer);
+            Assert.assertEquals(jsonKit.write(user), writer.toString());
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+            int length = jsonKit.write(user, buffer);
+            Assert.assertEquals(bytes.length, length);
+            buffer.flip();
+            Assert.assertEquals("Eugene", jsonKit.read(buffer, User.class).getName());
+            Assert.assertEquals(0, buffer.remaining());
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testWriteByteBufferOverflow() {
+        User user = new User();
+        user.setName("Eugene");
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        try {
+            jsonKit.write(user, buffer);
+            Assert.fail("ByteBuffer剩余空间不足时应抛出异常");
+        } catch (JsonParseException e) {
+            Assert.assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test
+    public void testWriteLargeByteBufferOverflow() {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            name.append('E');
+        }
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            User user = new User();
+            user.setName(name.toString());
+            users.add(user);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(32 * 1024);
+        buffer.position(16);
+        try {
+            jsonKit.write(users, buffer);
+            Assert.fail("ByteBuffer剩余空间不足时应抛出异常");
+        } catch (JsonParseException e) {
+            Assert.assertTrue(e.getMessage().contains("剩余空间不足"));
+            Assert.assertEquals(16, buffer.position());
+        }
+    }
+
+    @Test
+    public void testReaderAndWriter() {
+        JsonReader<User> reader = jsonKit.reader(User.class);
+        JsonWriter<User> writer = jsonKit.writer(User.class);
+        Assert.assertSame(reader, jsonKit.reader(User.class));
+        Assert.assertSame(writer, jsonKit.writer(User.class));
+        Assert.assertSame(jsonKit.getCollectionType(List.class, User.class), jsonKit.getCollectionType(List.class, User.class));
+
+        User user = reader.read("{\"name\":\"Eugene\", \"age\":18}");
+        Assert.assertEquals("Eugene", user.getName());
+        Assert.assertEquals(jsonKit.write(user), writer.write(user));
+        Assert.assertEquals(18, reader.read(writer.writeAsBytes(user)).getAge());
+    }
+
+    @Test
+    public void testAfterburner() {
+        JsonKit acceleratedKit = JsonKitBuilder.newJsonKitBuilder().afterburner(true).build();
+        boolean present;
+        try {
+            Class.forName(JsonKitBuilder.AFTERBURNER_MODULE);
+            present = true;
+        } catch (ClassNotFoundException e) {
+            present = false;
+        }
+        Assert.assertEquals(present, acceleratedKit.isAccelerated());
+        Assert.assertFalse(jsonKit.isAccelerated());
+
+        User user = acceleratedKit.read("{\"name\":\"Eugene\", \"age\":18}", User.class);
+        Assert.assertEquals("Eugene", user.getName());
+        Assert.assertEquals(18, user.getAge());
+        Assert.assertEquals(jsonKit.write(user), acceleratedKit.write(user));
+    }
+
+    @Test
+    public void testBinaryFormat() {
+        User user = new User();
+        user.setName("Eugene");
+        user.setAge(18);
+
+        JsonKit smileKit = JsonKitBuilder.newJsonKitBuilder().format(JsonFormatEnum.SMILE).build();
+        byte[] smile = smileKit.writeAsBytes(user);
+        User smileUser = smileKit.read(smile, User.class);
+        Assert.assertEquals("Eugene", smileUser.getName());
+        Assert.assertEquals(18, smileUser.getAge());
+        Assert.assertTrue(smile.length < jsonKit.writeAsBytes(user).length);
+
+        JsonKit cborKit = jsonKit.format(JsonFormatEnum.CBOR);
+        Assert.assertSame(cborKit, jsonKit.format(JsonFormatEnum.CBOR));
+        Assert.assertSame(jsonKit, cborKit.format(JsonFormatEnum.JSON));
+        User cborUser = cborKit.read(cborKit.writeAsBytes(user), User.class);
+        Assert.assertEquals("Eugene", cborUser.getName());
+
+        JsonKit messagePackKit = jsonKit.format(JsonFormatEnum.MESSAGE_PACK);
+        byte[] messagePack = messagePackKit.writeAsBytes(user);
+        Assert.assertEquals((byte) 0x83, messagePack[0]);
+        User messagePackUser = messagePackKit.read(messagePack, User.class);
+        Assert.assertEquals("Eugene", messagePackUser.getName());
+        Assert.assertEquals(18, messagePackUser.getAge());
+
+        try {
+            cborKit.write(user);
+            Assert.fail();
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testJsonLines() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonLinesWriter<User> writer = jsonKit.writeLines(outputStream, User.class)) {
+            for (int i = 0; i < 2000; i++) {
+                User user = new User();
+                user.setName("Eugene" + i);
+                user.setAge(i % 100);
+                writer.write(user);
+            }
+            Assert.assertEquals(2000, writer.getCount());
+        }
+        byte[] lines = outputStream.toByteArray();
+        Assert.assertEquals('\n', lines[lines.length - 1]);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (JsonLinesIterator<User> iterator = jsonKit.readLines(new ByteArrayInputStream(lines), User.class, pool)) {
+            int i = 0;
+            while (iterator.hasNext()) {
+                Assert.assertEquals("Eugene" + i, iterator.next().getName());
+                i++;
+            }
+            Assert.assertEquals(2000, i);
+        } finally {
+            pool.shutdown();
+        }
+
+        String broken = "{\"name\":\"Eugene\", \"age\":18}\n\n{\"name\":\n{\"name\":\"King\"}";
+        for (ForkJoinPool brokenPool : Arrays.asList(null, ForkJoinPool.commonPool())) {
+            List<String> names = new ArrayList<>();
+            try (Stream<User> stream = jsonKit.readLinesAsStream(new ByteArrayInputStream(broken.getBytes(StandardCharsets.UTF_8)), User.class, brokenPool)) {
+                stream.forEach(user -> names.add(user.getName()));
+                Assert.fail();
+            } catch (JsonParseException e) {
+                Assert.assertTrue(e.getMessage().contains("第3行"));
+            }
+            Assert.assertEquals(Collections.singletonList("Eugene"), names);
+        }
+    }
+
+    @Test
+    public void testExtract() {
+        String json = "{\"code\":0, \"data\":{\"total\":2, \"items\":[{\"id\":7, \"user\":{\"name\":\"Eugene\", \"age\":18}}, {\"id\":8}]}, \"trace\":[1, 2, 3]}";
+        Assert.assertEquals(Integer.valueOf(7), jsonKit.extract(json, "/data/items/0/id", Integer.class));
+        Assert.assertNull(jsonKit.extract(json, "/data/items/2/id", Integer.class));
+
+        User user = jsonKit.extract(json, "/data/items/0/user", User.class);
+        Assert.assertEquals("Eugene", user.getName());
+        Assert.assertEquals(18, user.getAge());
+
+        Map<String, Object> values = jsonKit.extractAll(json, "/data/items/1/id", "/data/items/0", "/data/items/0/user/name", "/none");
+        Assert.assertEquals(Arrays.asList("/data/items/1/id", "/data/items/0", "/data/items/0/user/name"), new ArrayList<>(values.keySet()));
+        Assert.assertEquals(8, values.get("/data/items/1/id"));
+        Assert.assertEquals("Eugene", values.get("/data/items/0/user/name"));
+        Assert.assertEquals(7, ((Map) values.get("/data/items/0")).get("id"));
+
+        // 找到目标路径后立即停止读取，其后的非法内容不会被解析
+        Assert.assertEquals(Integer.valueOf(0), jsonKit.extract("{\"code\":0, \"data\":[", "/code", Integer.class));
+        Map<String, Object> duplicated = jsonKit.extractAll("{\"code\":0, \"data\":[", "/code", "/code");
+        Assert.assertEquals(Collections.singletonMap("/code", 0), duplicated);
+    }
+
+    @Test
+    public void testReadAsLazyMap() {
+        String json = "{\"name\":\"Eugene\", \"age\":18, \"tags\":[\"a\", {\"b\":[1, 2.5, null]}], \"desc\":\"浆果\\n工具箱\", \"empty\":{}, \"ok\":true}";
+        Map<String, Object> lazyMap = jsonKit.readAsLazyMap(json);
+        Assert.assertEquals(6, lazyMap.size());
+        Assert.assertEquals(18, lazyMap.get("age"));
+        Assert.assertEquals("浆果\n工具箱", lazyMap.get("desc"));
+        Assert.assertEquals(2.5, ((List) ((Map) ((List) lazyMap.get("tags")).get(1)).get("b")).get(1));
+        Assert.assertFalse(lazyMap.containsKey("none"));
+        Assert.assertEquals(jsonKit.readAsMap(json), lazyMap);
+
+        for (String padded : Arrays.asList("\n{\"a\":1,\"b\":\"x\"}", "  {\"a\":1, \"b\":\"x\"}", "\r\n\t{\n  \"a\" : 1,\n  \"b\" :\t\"x\",\n  \"c\" : [ 1 ,\n {\"d\" : \"y\" } ]\n}\n")) {
+            Map<String, Object> paddedMap = jsonKit.readAsLazyMap(padded);
+            Assert.assertEquals(1, paddedMap.get("a"));
+            Assert.assertEquals("x", paddedMap.get("b"));
+            Assert.assertEquals(jsonKit.readAsMap(padded), paddedMap);
+        }
+
+        try {
+            lazyMap.put("name", "King");
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            e.printStackTrace();
+        }
+        try {
+            jsonKit.readAsLazyMap("[1, 2]");
+            Assert.fail();
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testShared() {
+        Assert.assertSame(JsonKit.shared(), JsonKit.shared());
+
+        JsonKit acceleratedKit = JsonKit.shared("accelerated", () -> JsonKitBuilder.newJsonKitBuilder().afterburner(true).build());
+        Assert.assertSame(acceleratedKit, JsonKit.shared("accelerated", JsonKit::new));
+        Assert.assertSame(acceleratedKit, JsonKit.shared("accelerated"));
+        Assert.assertSame(acceleratedKit, JsonKit.unregister("accelerated"));
+        try {
+            JsonKit.shared("accelerated");
+            Assert.fail();
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testReadAsync() {
+        byte[] json = "[{\"name\":\"Eugene\", \"age\":18, \"desc\":\"浆果工具箱\"}, {\"name\":\"King\", \"age\":22}]".getBytes(StandardCharsets.UTF_8);
+        List<User> users = new ArrayList<>();
+        JsonAsyncReader<User> reader = jsonKit.readAsync(User.class, users::add);
+        for (int i = 0; i < json.length; i += 5) {
+            reader.feed(json, i, Math.min(5, json.length - i));
+            if (users.size() == 1) {
+                Assert.assertEquals("浆果工具箱", users.get(0).getDesc());
+            }
+        }
+        reader.end();
+        Assert.assertEquals(2, reader.getCount());
+        Assert.assertEquals("King", users.get(1).getName());
+
+        JsonAsyncReader<User> incomplete = jsonKit.readAsync(User.class, users::add);
+        incomplete.feed(Arrays.copyOf(json, 20));
+        try {
+            incomplete.end();
+            Assert.fail();
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+
+        JsonAsyncReader<User> failing = jsonKit.readAsync(User.class, user -> {
+            throw new IllegalStateException(user.getName());
+        });
+        try {
+            failing.feed(json);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Eugene", e.getMessage());
+        }
+        try {
+            failing.feed(json);
+            Assert.fail("回调抛出异常后读取器应已关闭");
+        } catch (JsonParseException e) {
+            Assert.assertEquals(1, failing.getCount());
+        }
+    }
+
+    @Test
+    public void testBufferPool() {
+        Assert.assertNull(jsonKit.getBufferPool());
+
+        JsonKit pooledKit = JsonKitBuilder.newJsonKitBuilder().bufferPool(JsonBufferPoolEnum.SHARED, 2, 64).build();
+        User user = new User();
+        user.setName("Eugene");
+        user.setAge(18);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(jsonKit.write(user), pooledKit.write(user));
+            Assert.assertArrayEquals(jsonKit.writeAsBytes(user), pooledKit.writeAsBytes(user));
+        }
+        JsonBufferPool bufferPool = pooledKit.getBufferPool();
+        Assert.assertEquals(JsonBufferPoolEnum.SHARED, bufferPool.getStrategy());
+        Assert.assertEquals(3, bufferPool.getAcquireCount());
+        Assert.assertEquals(2, bufferPool.getHitCount());
+
+        user.setDesc(String.join("", Collections.nCopies(10, "浆果工具箱")) + String.join("", Collections.nCopies(64, "a")));
+        Assert.assertEquals(jsonKit.write(user), pooledKit.write(user));
+        Assert.assertEquals(1, bufferPool.getDiscardCount());
+        Assert.assertArrayEquals(jsonKit.writeAsBytes(user), pooledKit.writeAsBytes(user));
+        Assert.assertEquals(4, bufferPool.getAcquireCount());
+
+        // 报文未超过最大保留大小，但扩容后的容量已超过，同样丢弃
+        JsonKit localKit = JsonKitBuilder.newJsonKitBuilder().bufferPool(JsonBufferPoolEnum.THREAD_LOCAL, 1, 1500).build();
+        user.setDesc(String.join("", Collections.nCopies(1100, "a")));
+        Assert.assertEquals(jsonKit.write(user), localKit.write(user));
+        Assert.assertEquals(1, localKit.getBufferPool().getDiscardCount());
+    }
+
+    @Test
+    public void testCanonicalize() {
+        JsonKit canonicalKit = JsonKitBuilder.newJsonKitBuilder().canonicalize(true).build();
+        String json = "[{\"status\":\"ACTIVE\",\"year\":2024,\"id\":10000000000,\"tags\":[\"a\"],\"score\":1.5,\"empty\":null}," +
+                "{\"status\":\"ACTIVE\",\"year\":2024,\"id\":10000000001,\"tags\":[],\"score\":2.5,\"empty\":null}]";
+        List<Map> expected = jsonKit.readAsCollection(json, List.class, Map.class);
+        List<Map> records = canonicalKit.readAsCollection(json, List.class, Map.class);
+        Assert.assertEquals(expected, records);
+        Assert.assertSame(records.get(0).get("status"), records.get(1).get("status"));
+        Assert.assertSame(records.get(0).get("year"), records.get(1).get("year"));
+        Assert.assertEquals(Long.class, records.get(0).get("id").getClass());
+
+        Map<String, Object> map = canonicalKit.readAsMap("{\"user\":{\"status\":\"ACTIVE\"}}");
+        Map user = (Map) map.get("user");
+        Assert.assertSame(records.get(0).get("status"), user.get("status"));
+
+        List<Map> untouched = canonicalKit.read(json, List.class);
+        Assert.assertEquals(expected, untouched);
+        Assert.assertNotSame(untouched.get(0).get("status"), untouched.get(1).get("status"));
+    }
+
+    @Test
+    public void testReadPath() {
+        Path path = null;
+        try {
+            path = Files.createTempFile("berry-kit", ".json");
+            Files.write(path, "[{\"name\":\"Eugene\",\"age\":18},{\"name\":\"King\",\"age\":20}]".getBytes(StandardCharsets.UTF_8));
+            List<User> users = jsonKit.readAsCollection(path, List.class, User.class);
+            Assert.assertEquals(2, users.size());
+            Assert.assertEquals("King", users.get(1).getName());
+            try (JsonArrayIterator<User> iterator = jsonKit.readAsIterator(path, User.class)) {
+                Assert.assertEquals(users.get(0).getName(), iterator.next().getName());
+            }
+            try (Stream<User> stream = jsonKit.readAsStream(path, User.class)) {
+                Assert.assertEquals(38, stream.mapToInt(User::getAge).sum());
+            }
+
+            Files.write(path, "{\"name\":\"Eugene\",\"age\":18}".getBytes(StandardCharsets.UTF_8));
+            Assert.assertEquals("Eugene", jsonKit.read(path, User.class).getName());
+            Assert.assertEquals(18, jsonKit.readAsMap(path).get("age"));
+        } catch (IOException e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            if (path != null) {
+                path.toFile().delete();
+            }
+        }
+    }
+
+    @Test
+    public void testDiffAndPatch() {
+        String source = "{\"name\":\"Eugene\",\"age\":18,\"a/b\":1,\"tags\":[\"x\",\"y\",\"z\"],\"address\":{\"city\":\"Beijing\",\"zip\":null},\"roles\":[{\"id\":1},{\"id\":2}]}";
+        String target = "{\"name\":\"Eugene\",\"age\":19,\"tags\":[\"x\",\"new\",\"y\",\"z\"],\"address\":{\"city\":\"Shanghai\",\"zip\":null},\"roles\":[{\"id\":1}],\"desc\":\"浆果\"}";
+        Assert.assertEquals("[]", jsonKit.diff(source, source));
+
+        String patch = jsonKit.diff(source, target);
+        Assert.assertFalse(patch.contains("\"/name\""));
+        Assert.assertTrue(patch.contains("{\"op\":\"remove\",\"path\":\"/a~1b\"}"));
+        Assert.assertEquals(jsonKit.readAsMap(target), jsonKit.readAsMap(jsonKit.patch(source, patch)));
+        Assert.assertArrayEquals(jsonKit.patch(source.getBytes(StandardCharsets.UTF_8), patch.getBytes(StandardCharsets.UTF_8)),
+                jsonKit.patch(source, patch).getBytes(StandardCharsets.UTF_8));
+
+        String moved = jsonKit.patch(source, "[{\"op\":\"test\",\"path\":\"/age\",\"value\":18},{\"op\":\"move\",\"from\":\"/address/city\",\"path\":\"/city\"}," +
+                "{\"op\":\"copy\",\"from\":\"/tags/0\",\"path\":\"/tags/-\"}]");
+        Map<String, Object> map = jsonKit.readAsMap(moved);
+        Assert.assertEquals("Beijing", map.get("city"));
+        Assert.assertEquals(Arrays.asList("x", "y", "z", "x"), map.get("tags"));
+        try {
+            jsonKit.patch(source, "[{\"op\":\"test\",\"path\":\"/age\",\"value\":20}]");
+            Assert.fail();
+        } catch (JsonParseException e) {
+            Assert.assertTrue(e.getMessage().contains("test"));
+        }
+    }
+
+    @Test
+    public void testReadAsListParallel() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            User user = new User();
+            user.setName("Eugene" + i);
+            user.setAge(i);
+            user.setDesc(i % 2 == 0 ? "浆果\\\"[{,}]" : null);
+            users.add(user);
+        }
+        Path path = null;
+        try {
+            path = Files.createTempFile("berry-kit", ".json");
+            Files.write(path, jsonKit.writeAsBytes(users));
+            List<User> result = jsonKit.readAsList(path, User.class, ForkJoinPool.commonPool());
+            Assert.assertEquals(jsonKit.write(users), jsonKit.write(result));
+            try (Stream<User> stream = jsonKit.readAsStream(path, User.class, ForkJoinPool.commonPool())) {
+                Assert.assertEquals(1999, stream.skip(1999).findFirst().get().getAge());
+            }
+
+            Files.write(path, " [ ] ".getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(jsonKit.readAsList(path, User.class, ForkJoinPool.commonPool()).isEmpty());
+            Assert.assertEquals(Arrays.asList(1, 2), jsonKit.readAsList(Files.write(path, "[1, 2]".getBytes(StandardCharsets.UTF_8)), Integer.class, ForkJoinPool.commonPool()));
+        } catch (IOException e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            if (path != null) {
+                path.toFile().delete();
+            }
+        }
+
+        try {
+            jsonKit.readAsIterator(new ByteArrayInputStream("[1,,2]".getBytes(StandardCharsets.UTF_8)), Integer.class, ForkJoinPool.commonPool()).hasNext();
+            Assert.fail();
+        } catch (JsonParseException e) {
+            Assert.assertTrue(e.getMessage().contains("缺少数组元素"));
+        }
+        for (String malformed : Arrays.asList("[{\"a\":1}{\"a\":2},{\"a\":3}]", "[1 2]", "[\"a\"\"b\"]", "[[1] , 2 [3]]", "[1\n{\"a\":2}]")) {
+            try {
+                jsonKit.readAsIterator(new ByteArrayInputStream(malformed.getBytes(StandardCharsets.UTF_8)), Object.class, ForkJoinPool.commonPool()).hasNext();
+                Assert.fail(malformed);
+            } catch (JsonParseException e) {
+                Assert.assertTrue(e.getMessage().contains("数组元素之间缺少逗号"));
+            }
+        }
+        Assert.assertEquals(Arrays.asList("a b", Collections.singletonMap("c", Arrays.asList(1, 2)), 3),
+                jsonKit.readAsStream(new ByteArrayInputStream("[ \"a b\" ,\n{ \"c\" : [1 , 2] }\t, 3 ]".getBytes(StandardCharsets.UTF_8)), Object.class, ForkJoinPool.commonPool()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testWriteCache() {
+        Assert.assertNull(jsonKit.getWriteCache());
+        JsonKit cachedKit = JsonKitBuilder.newJsonKitBuilder().writeCache(2, 1024).build();
+        JsonWriteCache writeCache = cachedKit.getWriteCache();
+        List<JsonCacheRemovalEnum> removals = new ArrayList<>();
+        writeCache.setRemovalListener((key, cause) -> removals.add(cause));
+
+        User user = new User();
+        user.setName("Eugene");
+        user.setAge(18);
+        byte[] bytes = cachedKit.writeAsBytesCached(user);
+        Assert.assertArrayEquals(jsonKit.writeAsBytes(user), bytes);
+        Assert.assertSame(bytes, cachedKit.writeAsBytesCached(user));
+        Assert.assertEquals(1, writeCache.getHitCount());
+
+        Assert.assertArrayEquals(bytes, cachedKit.writeAsBytesCached("config", 1, () -> user));
+        Assert.assertSame(cachedKit.writeAsBytesCached("config", 1, () -> null), cachedKit.writeAsBytesCached("config", 1, () -> null));
+        user.setAge(19);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        cachedKit.writeCached("config", 2, () -> user, outputStream);
+        Assert.assertEquals(jsonKit.write(user), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(Collections.singletonList(JsonCacheRemovalEnum.REPLACED), removals);
+
+        cachedKit.writeAsBytesCached(new User());
+        Assert.assertEquals(2, writeCache.size());
+        Assert.assertEquals(JsonCacheRemovalEnum.SIZE, removals.get(1));
+        writeCache.invalidate("config");
+        Assert.assertEquals(JsonCacheRemovalEnum.EXPLICIT, removals.get(2));
+        Assert.assertEquals(1, writeCache.size());
+    }
+
+    @Test
+    public void testJsonCodec() {
+        ObjectMapper objectMapper = JsonKit.createObjectMapper();
+        JsonKit codecKit = new JsonKit(objectMapper);
+        try {
+            String serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(CodecUser.class).getClass().getName();
+            Assert.assertTrue(serializer.endsWith("CodecUserJsonCodec$Serializer"));
+        } catch (JsonMappingException e) {
+            e.printStackTrace();
+            Assert.fail();
+        }
+
+        ObjectMapper reflectionMapper = new ObjectMapper();
+        reflectionMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        reflectionMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        JsonKit reflectionKit = new JsonKit(reflectionMapper);
+
+        CodecUser user = new CodecUser();
+        user.setName("Eugene");
+        user.setAge(18);
+        user.setActive(true);
+        user.setTags(Arrays.asList("a", "b"));
+        user.setPassword("secret");
+        String json = codecKit.write(user);
+        Assert.assertEquals(reflectionKit.readAsMap(reflectionKit.write(user)), codecKit.readAsMap(json));
+        Assert.assertFalse(json.contains("secret"));
+
+        CodecUser codecUser = codecKit.read("{\"name\":\"King\", \"age\":22, \"unknown\":{\"a\":[1]}, \"active\":true, \"user_tags\":[\"c\"], \"friends\":{\"eugene\":{\"name\":\"Eugene\"}}}", CodecUser.class);
+        Assert.assertEquals("King(22)", codecUser.getTitle());
+        Assert.assertTrue(codecUser.isActive());
+        Assert.assertEquals(Collections.singletonList("c"), codecUser.getTags());
+        Assert.assertEquals(codecKit.readAsMap(codecKit.write(codecUser)), reflectionKit.readAsMap(reflectionKit.write(codecUser)));
+        Assert.assertEquals(1, codecKit.readAsMap(json).get("version"));
+        String versionJson = "{\"name\":\"King\", \"version\":3}";
+        Assert.assertEquals(3L, codecKit.read(versionJson, CodecUser.class).getVersion());
+        Assert.assertEquals(reflectionKit.read(versionJson, CodecUser.class).getVersion(), codecKit.read(versionJson, CodecUser.class).getVersion());
+    }
+
     @Test
     public void testWriteMap() {
         Map<String, Object> userMap = new HashMap<>();
@@ -0,0 +1,78 @@
+package com.github.eugeneheen.berry.kit.test.net;
+
+import com.github.eugeneheen.berry.kit.exception.HttpComponentsException;
+import com.github.eugeneheen.berry.kit.net.HttpAsyncClientKit;
+import com.github.eugeneheen.berry.kit.net.HttpAsyncClientKitBuilder;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 异步Http客户端工具箱单元测试
+ *
+ * @author Eugene
+ */
+public class HttpAsyncClientKitTest {
+
+    @Test
+    public void testExecuteAsync() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            InputStream in = exchange.getRequestBody();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            byte[] body = out.toByteArray();
+            if (body.length == 0) {
+                body = exchange.getRequestURI().getQuery().getBytes("UTF-8");
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/echo";
+        HttpAsyncClientKit asyncKit = HttpAsyncClientKitBuilder.newHttpAsyncClientKitBuilder().ioThreads(1).maxTotal(8).maxPerRoute(8).build();
+        server.start();
+        try {
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(asyncKit.doGetAsync(url + "?id=" + i));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assert.assertEquals("id=" + i, futures.get(i).join());
+            }
+            Assert.assertEquals("浆果", asyncKit.doPostAsync(url, "浆果").join());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            server.stop(0);
+        }
+        try {
+            asyncKit.doGetAsync(url + "?id=0").join();
+            Assert.fail();
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof HttpComponentsException);
+        } finally {
+            asyncKit.close();
+        }
+        try {
+            asyncKit.doGetAsync(url + "?id=0").join();
+            Assert.fail();
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof HttpComponentsException);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.eugeneheen.berry.kit.test.net;
+
+import com.github.eugeneheen.berry.kit.enumeration.HttpBatchModeEnum;
+import com.github.eugeneheen.berry.kit.exception.HttpBatchException;
+import com.github.eugeneheen.berry.kit.net.HttpBatchKit;
+import com.github.eugeneheen.berry.kit.net.HttpBatchResult;
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKit;
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKitBuilder;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量Http请求工具箱单元测试
+ *
+ * @author Eugene
+ */
+public class HttpBatchKitTest {
+
+    @Test
+    public void testDoGetAll() throws IOException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/slow", exchange -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            byte[] body = exchange.getRequestURI().getQuery().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow?id=";
+        HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder().build();
+        server.start();
+        try {
+            HttpBatchKit<HttpRequestBase, HttpResponse> batchKit = new HttpBatchKit<>(httpKit, 16, 5);
+            List<String> urls = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                urls.add(url + i);
+            }
+            long start = System.nanoTime();
+            List<HttpBatchResult<HttpRequestBase, String>> results = batchKit.doGetAll(urls, HttpBatchModeEnum.FAIL_FAST);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertEquals(10, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals("id=" + i, results.get(i).getValue());
+                Assert.assertTrue(results.get(i).getLatency(TimeUnit.MILLISECONDS) >= 200);
+            }
+            Assert.assertEquals(5, maxActive.get());
+            Assert.assertTrue("总耗时：" + elapsed, elapsed < 1500);
+
+            urls.add(3, "http://127.0.0.1:1/unreachable");
+            results = batchKit.doGetAll(urls, HttpBatchModeEnum.COLLECT_ALL);
+            Assert.assertEquals(11, results.size());
+            Assert.assertFalse(results.get(3).isSuccess());
+            Assert.assertNotNull(results.get(3).getError());
+            Assert.assertEquals("id=9", results.get(10).getValue());
+            try {
+                batchKit.doGetAll(urls, HttpBatchModeEnum.FAIL_FAST);
+                Assert.fail();
+            } catch (HttpBatchException e) {
+                Assert.assertTrue(e.getMessage().contains("第4个请求"));
+            }
+
+            urls.remove(3);
+            List<HttpRequestBase> requests = new ArrayList<>();
+            for (String item : urls) {
+                requests.add(httpKit.createHttpGet(item));
+            }
+            List<HttpBatchResult<HttpRequestBase, String>> errors = batchKit.execute(requests, response -> {
+                throw new AssertionError("handler");
+            }, HttpBatchModeEnum.COLLECT_ALL);
+            Assert.assertEquals(10, errors.size());
+            Assert.assertTrue(errors.get(0).getError() instanceof AssertionError);
+            try {
+                batchKit.execute(requests, response -> {
+                    throw new AssertionError("handler");
+                }, HttpBatchModeEnum.FAIL_FAST);
+                Assert.fail();
+            } catch (HttpBatchException e) {
+                Assert.assertTrue(e.getCause() instanceof AssertionError);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            httpKit.close();
+            server.stop(0);
+            serverExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeout() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/hang", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            if (!"id=0".equals(query)) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = query.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hang?id=";
+        HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder().build();
+        server.start();
+        try {
+            HttpBatchKit<HttpRequestBase, HttpResponse> batchKit = new HttpBatchKit<>(httpKit, 16, 1);
+            List<String> urls = Arrays.asList(url + 0, url + 1, url + 2);
+            long start = System.nanoTime();
+            List<HttpBatchResult<HttpRequestBase, String>> results = batchKit.doGetAll(urls, HttpBatchModeEnum.COLLECT_ALL, 500, TimeUnit.MILLISECONDS);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertTrue("总耗时：" + elapsed, elapsed < 2000);
+            Assert.assertEquals(3, results.size());
+            Assert.assertEquals("id=0", results.get(0).getValue());
+            Assert.assertTrue(results.get(1).getError() instanceof TimeoutException);
+            Assert.assertTrue(results.get(1).getLatency(TimeUnit.MILLISECONDS) > 0);
+            Assert.assertTrue(results.get(2).getError() instanceof TimeoutException);
+            Assert.assertEquals(0, results.get(2).getLatency(TimeUnit.MILLISECONDS));
+
+            try {
+                batchKit.doGetAll(urls, HttpBatchModeEnum.FAIL_FAST, 500, TimeUnit.MILLISECONDS);
+                Assert.fail();
+            } catch (HttpBatchException e) {
+                Assert.assertTrue(e.getMessage().contains("第2个请求"));
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            httpKit.close();
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+}
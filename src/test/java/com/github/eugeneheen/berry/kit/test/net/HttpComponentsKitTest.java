@@ -1,13 +1,19 @@
 package com.github.eugeneheen.berry.kit.test.net;
 
 import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKit;
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKitBuilder;
 import com.github.eugeneheen.berry.kit.net.HttpResponseKit;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.pool.PoolStats;
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.*;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 描述类的功能
@@ -28,4 +34,42 @@ public class HttpComponentsKitTest {
         String json = responseKit.getStringContent(response, StandardCharsets.UTF_8);
         System.out.println(json);
     }
+
+    @Test
+    public void testPooledClient() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ping";
+        HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder()
+                .maxTotal(4).maxPerRoute(2).keepAlive(10, TimeUnit.SECONDS).build();
+        server.start();
+        try {
+            for (int i = 0; i < 20; i++) {
+                Assert.assertEquals("pong", httpKit.doGet(url));
+                Assert.assertEquals("pong", httpKit.doPost(url));
+            }
+            PoolStats stats = httpKit.getPoolStats();
+            Assert.assertEquals(0, stats.getLeased());
+            Assert.assertEquals(1, stats.getAvailable());
+            Assert.assertSame(new HttpComponentsClientKit().getHttpClient(), HttpComponentsClientKit.shared().getHttpClient());
+            Assert.assertEquals("pong", new HttpComponentsClientKit().doGet(url));
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            httpKit.close();
+            server.stop(0);
+        }
+        try {
+            httpKit.doGet(url);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // 连接池已关闭
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package com.github.eugeneheen.berry.kit.test.net;
+
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKit;
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKitBuilder;
+import com.github.eugeneheen.berry.kit.net.HttpResponseCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Http响应缓存单元测试
+ *
+ * @author Eugene
+ */
+public class HttpResponseCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    @Test
+    public void testResponseCache() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/fresh", exchange -> {
+            requests.incrementAndGet();
+            if ("POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 200, "updated");
+                return;
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+            send(exchange, 200, "fresh-" + requests.get());
+        });
+        server.createContext("/etag", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.getResponseHeaders().set("ETag", ETAG);
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            send(exchange, 200, "etag");
+        });
+        server.createContext("/no-store", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            send(exchange, 200, "no-store");
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder()
+                .responseCache(1024 * 1024, HttpResponseCache.DEFAULT_MAX_ENTRY_SIZE)
+                .build();
+        server.start();
+        try {
+            HttpResponseCache cache = httpKit.getResponseCache();
+            Assert.assertEquals("fresh-1", httpKit.doGet(url + "/fresh"));
+            Assert.assertEquals("fresh-1", httpKit.doGet(url + "/fresh"));
+            Assert.assertEquals(1, requests.get());
+            Assert.assertEquals(1, cache.getHitCount());
+
+            Assert.assertEquals("updated", httpKit.doPost(url + "/fresh"));
+            Assert.assertEquals("fresh-3", httpKit.doGet(url + "/fresh"));
+
+            Assert.assertEquals("etag", httpKit.doGet(url + "/etag"));
+            Assert.assertEquals("etag", httpKit.doGet(url + "/etag"));
+            Assert.assertEquals(5, requests.get());
+            Assert.assertEquals(1, cache.getRevalidationCount());
+
+            Assert.assertEquals("no-store", httpKit.doGet(url + "/no-store"));
+            Assert.assertEquals("no-store", httpKit.doGet(url + "/no-store"));
+            Assert.assertEquals(7, requests.get());
+            Assert.assertEquals(2, cache.size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            httpKit.close();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testDiskCache() throws IOException {
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/fresh", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+            send(exchange, 200, exchange.getRequestURI().getQuery());
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/fresh?id=";
+        Path directory = Files.createTempDirectory("berry-kit-http-cache");
+        HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder()
+                .responseCache(16, 1024, directory, 1024 * 1024)
+                .build();
+        server.start();
+        try {
+            Assert.assertEquals("id=1", httpKit.doGet(url + 1));
+            Assert.assertEquals("id=2", httpKit.doGet(url + 2));
+            Assert.assertEquals("id=1", httpKit.doGet(url + 1));
+            Assert.assertEquals(2, requests.get());
+            Assert.assertEquals(1, httpKit.getResponseCache().getDiskHitCount());
+            httpKit.close();
+
+            httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder()
+                    .responseCache(1024, 1024, directory, 1024 * 1024)
+                    .build();
+            Assert.assertEquals("id=2", httpKit.doGet(url + 2));
+            Assert.assertEquals(2, requests.get());
+            Assert.assertEquals(1, httpKit.getResponseCache().getDiskHitCount());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            httpKit.close();
+            server.stop(0);
+            File[] files = directory.toFile().listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.toFile().delete();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String content) throws IOException {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.eugeneheen.berry.kit.test.net;
+
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKit;
+import com.github.eugeneheen.berry.kit.net.HttpComponentsClientKitBuilder;
+import com.github.eugeneheen.berry.kit.net.IHttpClientKit;
+import com.github.eugeneheen.berry.kit.net.OkHttpClientKit;
+import com.github.eugeneheen.berry.kit.net.OkHttpClientKitBuilder;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.Response;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OkHttp客户端工具箱单元测试
+ *
+ * @author Eugene
+ */
+public class OkHttpClientKitTest {
+
+    @Test
+    public void testSwapEngine() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            InputStream in = exchange.getRequestBody();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            byte[] body = (exchange.getRequestMethod() + ":" + out.toString("UTF-8")).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/echo";
+        OkHttpClientKit okHttpKit = OkHttpClientKitBuilder.newOkHttpClientKitBuilder().maxPerRoute(4).build();
+        server.start();
+        try {
+            this.exchange(okHttpKit, url);
+            try (HttpComponentsClientKit httpKit = HttpComponentsClientKitBuilder.newHttpComponentsClientKitBuilder().build()) {
+                this.exchange(httpKit, url);
+            }
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(okHttpKit.executeAsync(okHttpKit.createHttpPost(url, String.valueOf(i))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assert.assertEquals("POST:" + i, okHttpKit.getStringContent(futures.get(i).join(), StandardCharsets.UTF_8));
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail();
+        } finally {
+            okHttpKit.close();
+            server.stop(0);
+        }
+    }
+
+    /**
+     * 只通过IHttpClientKit接口访问，验证不同引擎的行为一致
+     */
+    private <T, R> void exchange(IHttpClientKit<T, R> httpKit, String url) {
+        Assert.assertEquals("GET:", httpKit.doGet(url));
+        Assert.assertEquals("POST:", httpKit.doPost(url));
+        R response = httpKit.execute(httpKit.createHttpPut(url, "浆果"));
+        Assert.assertEquals("PUT:浆果", httpKit.getStringContent(response, StandardCharsets.UTF_8));
+        response = httpKit.execute(httpKit.createHttpDelete(url));
+        Assert.assertArrayEquals("DELETE:".getBytes(StandardCharsets.UTF_8), httpKit.getBytesContent(response));
+    }
+}